@@ -0,0 +1,44 @@
+package com.stepup.bench;
+
+import com.stepup.mock2.CohortStatistics;
+import com.stepup.mock2.InMemoryStudentRepository;
+import com.stepup.mock2.Student;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CohortStatisticsBenchmark {
+
+    @Param({"100000", "1000000"})
+    private int students;
+
+    private InMemoryStudentRepository repo;
+
+    @Setup
+    public void setUp() {
+        repo = new InMemoryStudentRepository(sum -> sum / 10);
+        for (int i = 0; i < students; i++) {
+            Student student = new Student("Student " + i);
+            for (int j = 0; j < 10; j++) {
+                student.addGrade((i + j) % 4 + 2);
+            }
+            repo.save(student);
+        }
+    }
+
+    @Benchmark
+    public CohortStatistics sequential() {
+        return CohortStatistics.of(repo.streamAll().sequential(), repo::getRatingForGradeSum);
+    }
+
+    @Benchmark
+    public CohortStatistics parallel() {
+        return CohortStatistics.of(repo);
+    }
+}
@@ -0,0 +1,84 @@
+package com.stepup.bench;
+
+import com.stepup.main.Student;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class MainStudentBenchmark {
+
+    @Param({"10", "1000", "100000"})
+    private int grades;
+
+    private Student student;
+    private Student equalStudent;
+    private Map<Student, Integer> map;
+
+    @Setup
+    public void setUp() {
+        student = newStudent(grades);
+        equalStudent = newStudent(grades);
+        map = new HashMap<>();
+        map.put(student, grades);
+    }
+
+    static Student newStudent(int grades) {
+        Student student = new Student("Student");
+        for (int i = 0; i < grades; i++) {
+            student.addGrade(i % 4 + 2);
+        }
+        return student;
+    }
+
+    @Benchmark
+    public Student addGrade() {
+        Student fresh = new Student("Student");
+        fresh.addGrade(5);
+        return fresh;
+    }
+
+    @Benchmark
+    public List<Integer> getGrades() {
+        return student.getGrades();
+    }
+
+    @Benchmark
+    public void iterateGradesView(Blackhole bh) {
+        for (Integer grade : student.getGradesView()) {
+            bh.consume(grade);
+        }
+    }
+
+    @Benchmark
+    public int gradeStreamSum() {
+        return student.gradeStream().sum();
+    }
+
+    @Benchmark
+    public int hashCodeBench() {
+        return student.hashCode();
+    }
+
+    @Benchmark
+    public Integer hashMapLookup() {
+        return map.get(equalStudent);
+    }
+
+    @Benchmark
+    public Map<Student, Integer> hashMapInsert() {
+        Map<Student, Integer> fresh = new HashMap<>();
+        fresh.put(student, grades);
+        fresh.put(equalStudent, grades);
+        return fresh;
+    }
+}
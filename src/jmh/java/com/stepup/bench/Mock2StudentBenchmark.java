@@ -0,0 +1,88 @@
+package com.stepup.bench;
+
+import com.stepup.mock2.Student;
+import com.stepup.mock2.StudentRepository;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class Mock2StudentBenchmark {
+
+    @Param({"10", "1000", "100000"})
+    private int grades;
+
+    private Student student;
+
+    @Setup
+    public void setUp() {
+        student = new Student("Student");
+        student.setRepo(new RatingRepository());
+        for (int i = 0; i < grades; i++) {
+            student.addGrade(i % 4 + 2);
+        }
+    }
+
+    @Benchmark
+    public Student addGrade() {
+        Student fresh = new Student("Student");
+        fresh.addGrade(5);
+        return fresh;
+    }
+
+    @Benchmark
+    public List<Integer> getGrades() {
+        return student.getGrades();
+    }
+
+    @Benchmark
+    public int hashCodeBench() {
+        return student.hashCode();
+    }
+
+    @Benchmark
+    public int rating() {
+        return student.rating();
+    }
+
+    static class RatingRepository implements StudentRepository {
+        @Override
+        public int getRatingForGradeSum(int sum) {
+            return sum > 50 ? 9 : 10;
+        }
+
+        @Override
+        public long count() {
+            return 0;
+        }
+
+        @Override
+        public void delete(Student entity) {
+        }
+
+        @Override
+        public void deleteAll(Iterable<Student> entities) {
+        }
+
+        @Override
+        public Iterable<Student> findAll() {
+            return List.of();
+        }
+
+        @Override
+        public Student save(Student entity) {
+            return entity;
+        }
+
+        @Override
+        public Iterable<Student> saveAll(Iterable<Student> entities) {
+            return entities;
+        }
+    }
+}
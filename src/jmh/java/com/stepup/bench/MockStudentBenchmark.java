@@ -0,0 +1,71 @@
+package com.stepup.bench;
+
+import com.stepup.mock.GradeService;
+import com.stepup.mock.Student;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class MockStudentBenchmark {
+
+    private static final GradeService LOCAL_SERVICE = new GradeService() {
+        @Override
+        public boolean checkGrade(int grade) {
+            return grade >= 2 && grade <= 5;
+        }
+
+        @Override
+        public int getRatingForGradeSum(int sum) {
+            return sum / 10;
+        }
+    };
+
+    @Param({"10", "1000", "100000"})
+    private int grades;
+
+    private Student student;
+
+    @Setup
+    public void setUp() throws IOException {
+        student = newStudent();
+        for (int i = 0; i < grades; i++) {
+            student.addGrade(i % 4 + 2);
+        }
+    }
+
+    private static Student newStudent() {
+        Student student = new Student("Student");
+        student.setGradeService(LOCAL_SERVICE);
+        return student;
+    }
+
+    @Benchmark
+    public Student addGrade() throws IOException {
+        Student fresh = newStudent();
+        fresh.addGrade(5);
+        return fresh;
+    }
+
+    @Benchmark
+    public List<Integer> getGrades() {
+        return student.getGrades();
+    }
+
+    @Benchmark
+    public int hashCodeBench() {
+        return student.hashCode();
+    }
+
+    @Benchmark
+    public int raiting() throws IOException {
+        return student.raiting();
+    }
+}
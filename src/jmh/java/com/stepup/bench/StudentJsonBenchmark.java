@@ -0,0 +1,67 @@
+package com.stepup.bench;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.stepup.mock2.Student;
+import com.stepup.mock2.StudentJson;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class StudentJsonBenchmark {
+
+    @Param({"3", "100"})
+    private int marks;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private Student student;
+    private StudentDto dto;
+    private byte[] json;
+
+    @Setup
+    public void setUp() throws IOException {
+        student = new Student("Student Name");
+        student.setId(42L);
+        dto = new StudentDto();
+        dto.id = 42L;
+        dto.name = "Student Name";
+        dto.marks = new int[marks];
+        for (int i = 0; i < marks; i++) {
+            student.addGrade(i % 4 + 2);
+            dto.marks[i] = i % 4 + 2;
+        }
+        json = objectMapper.writeValueAsBytes(dto);
+    }
+
+    @Benchmark
+    public byte[] writeStudentJson() {
+        return StudentJson.toBytes(student);
+    }
+
+    @Benchmark
+    public byte[] writeJackson() throws IOException {
+        return objectMapper.writeValueAsBytes(dto);
+    }
+
+    @Benchmark
+    public Student readStudentJson() {
+        return StudentJson.read(json);
+    }
+
+    @Benchmark
+    public StudentDto readJackson() throws IOException {
+        return objectMapper.readValue(json, StudentDto.class);
+    }
+
+    public static class StudentDto {
+        public Long id;
+        public String name;
+        public int[] marks;
+    }
+}
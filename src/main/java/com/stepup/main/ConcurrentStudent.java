@@ -0,0 +1,65 @@
+package com.stepup.main;
+
+import com.stepup.util.ConcurrentGradeLog;
+import com.stepup.util.GradeStats;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.IntConsumer;
+
+public class ConcurrentStudent {
+    private volatile String name;
+    private final ConcurrentGradeLog grades = new ConcurrentGradeLog();
+
+    public ConcurrentStudent(String name) {
+        this.name = name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public List<Integer> getGrades() {
+        return Arrays.stream(grades.toIntArray()).boxed().toList();
+    }
+
+    public void forEachGrade(IntConsumer action) {
+        grades.forEachInt(action);
+    }
+
+    public GradeStats getStats() {
+        return grades.stats();
+    }
+
+    public void addGrade(int grade) {
+        grades.append(grade);
+    }
+
+    @Override
+    public int hashCode() {
+        int hash = 7;
+        hash = 13 * hash + Objects.hashCode(this.name);
+        hash = 13 * hash + Arrays.hashCode(grades.toIntArray());
+        return hash;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) return true;
+        if (obj == null) return false;
+        if (getClass() != obj.getClass()) return false;
+        final ConcurrentStudent other = (ConcurrentStudent) obj;
+        if (!Objects.equals(this.name, other.name)) return false;
+        return Arrays.equals(grades.toIntArray(), other.grades.toIntArray());
+    }
+
+    @Override
+    public String toString() {
+        return "ConcurrentStudent{" + "name=" + name + ", marks=" + getGrades() + '}';
+    }
+}
@@ -1,9 +1,98 @@
 package com.stepup.main;
 
+import com.stepup.mock.CachingGradeService;
+import com.stepup.mock.GradeService;
+import com.stepup.mock.HttpClientConfig;
+import com.stepup.mock.MeteredGradeService;
+import com.stepup.mock2.InMemoryStudentRepository;
+import com.stepup.mock2.MappedFileStudentRepository;
+import com.stepup.mock2.MappedLogConfig;
+import com.stepup.mock2.MeteredStudentRepository;
+import com.stepup.mock2.StudentArchive;
+import com.stepup.mock2.StudentHttpServer;
+import com.stepup.util.MetricsRegistry;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
 public class Main {
-    public static void main(String[] args) {
+    public static void main(String[] args) throws IOException {
+        if (args.length > 0 && args[0].equals("serve")) {
+            if (args.length > 2) {
+                exitWithUsage("serve [port]");
+            }
+            int port = args.length > 1 ? parsePort(args[1]) : 8080;
+            MetricsRegistry registry = MetricsRegistry.global();
+            GradeService ratings = new CachingGradeService(MeteredGradeService.shared(), 1_000, 10, TimeUnit.MINUTES,
+                    false);
+            StudentHttpServer server = StudentHttpServer.start(new MeteredStudentRepository(
+                    new InMemoryStudentRepository(sum -> ratingForGradeSum(ratings, sum)), registry), port, registry);
+            System.out.println("Student service is listening on port " + server.getPort()
+                    + ", ratings from " + HttpClientConfig.defaults().getBaseUrl());
+            return;
+        }
+        if (args.length > 0 && args[0].equals("export")) {
+            if (args.length != 3) {
+                exitWithUsage("export <student-log> <archive>");
+            }
+            Path log = Path.of(args[1]);
+            if (!Files.isRegularFile(log)) {
+                exitWithUsage("export <student-log> <archive>: " + log + " does not exist");
+            }
+            try (MappedFileStudentRepository repo = new MappedFileStudentRepository(log, sum -> sum,
+                    MappedLogConfig.builder().readOnly(true).build());
+                 OutputStream out = Files.newOutputStream(Path.of(args[2]))) {
+                System.out.println("Exported " + StudentArchive.export(repo, out) + " students to " + args[2]);
+            }
+            return;
+        }
+        if (args.length > 0 && args[0].equals("import")) {
+            if (args.length != 3) {
+                exitWithUsage("import <archive> <student-log>");
+            }
+            Path archive = Path.of(args[1]);
+            if (!Files.isRegularFile(archive)) {
+                exitWithUsage("import <archive> <student-log>: " + archive + " does not exist");
+            }
+            try (InputStream in = Files.newInputStream(archive);
+                 MappedFileStudentRepository repo = new MappedFileStudentRepository(Path.of(args[2]), sum -> sum)) {
+                System.out.println("Imported " + StudentArchive.importInto(in, repo, 10_000) + " students into " + args[2]);
+            }
+            return;
+        }
 
         Student student_petya = new Student("Petya");
 
     }
-}
\ No newline at end of file
+
+    private static int parsePort(String value) {
+        try {
+            int port = Integer.parseInt(value);
+            if (port >= 0 && port <= 65_535) {
+                return port;
+            }
+        } catch (NumberFormatException e) {
+            // falls through to usage
+        }
+        exitWithUsage("serve [port]: " + value + " is not a valid port");
+        return -1;
+    }
+
+    private static int ratingForGradeSum(GradeService ratings, int sum) {
+        try {
+            return ratings.getRatingForGradeSum(sum);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void exitWithUsage(String usage) {
+        System.err.println("Usage: java " + Main.class.getName() + " " + usage);
+        System.exit(1);
+    }
+}
@@ -1,12 +1,17 @@
 package com.stepup.main;
 
+import com.stepup.util.GradeList;
+import com.stepup.util.GradeStats;
+
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
 
 public class Student {
     private String name;
-    private List<Integer> grades= new ArrayList<>();
+    private final GradeList grades = new GradeList();
 
     public Student(String name) {
         this.name = name;
@@ -24,11 +29,27 @@ public class Student {
         return new ArrayList<>(grades);
     }
 
+    public List<Integer> getGradesView() {
+        return grades.view();
+    }
+
+    public IntStream gradeStream() {
+        return grades.intStream();
+    }
+
+    public void forEachGrade(IntConsumer action) {
+        grades.forEachInt(action);
+    }
+
+    public GradeStats getStats() {
+        return grades.stats();
+    }
+
     public void addGrade(int grade) {
         if (grade < 2 || grade > 5) {
             throw new IllegalArgumentException(grade + " is wrong grade");
         }
-        grades.add(grade);
+        grades.append(grade);
     }
 
     @Override
@@ -0,0 +1,9 @@
+package com.stepup.mock;
+
+import java.util.concurrent.CompletableFuture;
+
+public interface AsyncGradeService {
+    CompletableFuture<Boolean> checkGradeAsync(int grade);
+
+    CompletableFuture<Integer> getRatingForGradeSumAsync(int sum);
+}
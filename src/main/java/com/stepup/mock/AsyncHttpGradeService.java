@@ -0,0 +1,67 @@
+package com.stepup.mock;
+
+import com.stepup.util.Futures;
+import lombok.Getter;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
+public class AsyncHttpGradeService implements AsyncGradeService {
+
+    @Getter
+    private final HttpClientConfig config;
+    private final HttpClient httpClient;
+
+    public AsyncHttpGradeService(HttpClientConfig config) {
+        this(config, ForkJoinPool.commonPool());
+    }
+
+    public AsyncHttpGradeService(HttpClientConfig config, Executor executor) {
+        this.config = config;
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofMillis(config.getConnectTimeoutMs()))
+                .executor(executor)
+                .build();
+    }
+
+    public static AsyncHttpGradeService shared() {
+        return Holder.INSTANCE;
+    }
+
+    @Override
+    public CompletableFuture<Boolean> checkGradeAsync(int grade) {
+        return get("/checkGrade?grade=" + grade).thenApply(Boolean::parseBoolean);
+    }
+
+    @Override
+    public CompletableFuture<Integer> getRatingForGradeSumAsync(int sum) {
+        return get("/educ?sum=" + sum).thenApply(body -> Integer.parseInt(body.trim()));
+    }
+
+    protected CompletableFuture<String> get(String pathAndQuery) {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(config.getBaseUrl() + pathAndQuery))
+                .timeout(Duration.ofMillis(config.getSocketTimeoutMs()))
+                .GET()
+                .build();
+        CompletableFuture<HttpResponse<String>> response =
+                httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofString());
+        return Futures.cancelling(response.thenApply(r -> {
+            if (r.statusCode() < 200 || r.statusCode() >= 300) {
+                throw new CompletionException(new HttpStatusException(r.statusCode(), r.body()));
+            }
+            return r.body();
+        }), response);
+    }
+
+    private static class Holder {
+        private static final AsyncHttpGradeService INSTANCE = new AsyncHttpGradeService(HttpClientConfig.defaults());
+    }
+}
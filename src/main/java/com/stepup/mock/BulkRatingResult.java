@@ -0,0 +1,17 @@
+package com.stepup.mock;
+
+import java.time.Duration;
+import java.util.Map;
+
+public record BulkRatingResult(int[] ratings, Map<Integer, Throwable> failures, Duration wallTime) {
+
+    public int succeeded() {
+        return ratings.length - failures.size();
+    }
+
+    @Override
+    public String toString() {
+        return "BulkRatingResult{students=" + ratings.length + ", failed=" + failures.size()
+                + ", wallTime=" + wallTime.toMillis() + "ms}";
+    }
+}
@@ -0,0 +1,55 @@
+package com.stepup.mock;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+
+public class BulkRatingService {
+
+    private final int maxConcurrentRequests;
+
+    public BulkRatingService(int maxConcurrentRequests) {
+        if (maxConcurrentRequests <= 0) {
+            throw new IllegalArgumentException(maxConcurrentRequests + " is wrong concurrency limit");
+        }
+        this.maxConcurrentRequests = maxConcurrentRequests;
+    }
+
+    public BulkRatingResult rateAll(Collection<Student> students) throws InterruptedException {
+        List<Student> snapshot = new ArrayList<>(students);
+        int[] ratings = new int[snapshot.size()];
+        Map<Integer, Throwable> failures = new ConcurrentHashMap<>();
+        Semaphore limiter = new Semaphore(maxConcurrentRequests);
+
+        long start = System.nanoTime();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < snapshot.size(); i++) {
+                int index = i;
+                Student student = snapshot.get(i);
+                executor.submit(() -> {
+                    try {
+                        limiter.acquire();
+                        try {
+                            ratings[index] = student.raiting();
+                        } finally {
+                            limiter.release();
+                        }
+                    } catch (Throwable e) {
+                        failures.put(index, e);
+                    }
+                    return null;
+                });
+            }
+        }
+        if (Thread.interrupted()) {
+            throw new InterruptedException();
+        }
+        return new BulkRatingResult(ratings, Map.copyOf(failures), Duration.ofNanos(System.nanoTime() - start));
+    }
+}
@@ -0,0 +1,96 @@
+package com.stepup.mock;
+
+import com.stepup.util.LruCache;
+import lombok.Getter;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+public class CachingGradeService implements GradeService {
+
+    private final GradeService delegate;
+    private final boolean negativeCaching;
+    @Getter
+    private final LruCache<Integer, Boolean> gradeCache;
+    @Getter
+    private final LruCache<Integer, Integer> ratingCache;
+
+    public CachingGradeService(GradeService delegate, int maxSize, long ttl, TimeUnit unit, boolean negativeCaching) {
+        this(delegate, new LruCache<>(maxSize, ttl, unit), new LruCache<>(maxSize, ttl, unit), negativeCaching);
+    }
+
+    public CachingGradeService(GradeService delegate, LruCache<Integer, Boolean> gradeCache,
+                               LruCache<Integer, Integer> ratingCache, boolean negativeCaching) {
+        this.delegate = delegate;
+        this.gradeCache = gradeCache;
+        this.ratingCache = ratingCache;
+        this.negativeCaching = negativeCaching;
+    }
+
+    @Override
+    public boolean checkGrade(int grade) throws IOException {
+        Boolean cached = gradeCache.get(grade);
+        if (cached != null) {
+            return cached;
+        }
+        boolean valid = delegate.checkGrade(grade);
+        remember(grade, valid);
+        return valid;
+    }
+
+    @Override
+    public boolean[] checkGrades(int[] grades) throws IOException {
+        boolean[] result = new boolean[grades.length];
+        Map<Integer, Integer> slots = new HashMap<>();
+        int[] missing = new int[grades.length];
+        int[] missingAt = new int[grades.length];
+        int[] slotAt = new int[grades.length];
+        int missingCount = 0;
+        int slotCount = 0;
+        for (int i = 0; i < grades.length; i++) {
+            Integer slot = slots.get(grades[i]);
+            if (slot == null) {
+                Boolean cached = gradeCache.get(grades[i]);
+                if (cached != null) {
+                    result[i] = cached;
+                    continue;
+                }
+                slot = slotCount;
+                slots.put(grades[i], slot);
+                missing[slotCount++] = grades[i];
+            }
+            missingAt[missingCount] = i;
+            slotAt[missingCount++] = slot;
+        }
+        if (slotCount > 0) {
+            boolean[] answers = delegate.checkGrades(Arrays.copyOf(missing, slotCount));
+            for (int i = 0; i < slotCount; i++) {
+                remember(missing[i], answers[i]);
+            }
+            for (int i = 0; i < missingCount; i++) {
+                result[missingAt[i]] = answers[slotAt[i]];
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public int getRatingForGradeSum(int sum) throws IOException {
+        Integer cached = ratingCache.get(sum);
+        if (cached != null) {
+            return cached;
+        }
+        int rating = delegate.getRatingForGradeSum(sum);
+        ratingCache.put(sum, rating);
+        return rating;
+    }
+
+    private void remember(int grade, boolean valid) {
+        if (valid || negativeCaching) {
+            gradeCache.put(grade, valid);
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package com.stepup.mock;
+
+import java.io.IOException;
+
+public class CircuitOpenException extends IOException {
+
+    public CircuitOpenException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,17 @@
+package com.stepup.mock;
+
+import java.io.IOException;
+
+public interface GradeService {
+    boolean checkGrade(int grade) throws IOException;
+
+    int getRatingForGradeSum(int sum) throws IOException;
+
+    default boolean[] checkGrades(int[] grades) throws IOException {
+        boolean[] result = new boolean[grades.length];
+        for (int i = 0; i < grades.length; i++) {
+            result[i] = checkGrade(grades[i]);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,33 @@
+package com.stepup.mock;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder(toBuilder = true)
+public class HttpClientConfig {
+    @Builder.Default
+    private final String baseUrl = System.getProperty("grade.service.url", "http://localhost:5352");
+    @Builder.Default
+    private final int maxTotal = 200;
+    @Builder.Default
+    private final int maxPerRoute = 50;
+    @Builder.Default
+    private final int connectTimeoutMs = 2_000;
+    @Builder.Default
+    private final int socketTimeoutMs = 5_000;
+    @Builder.Default
+    private final int connectionRequestTimeoutMs = 2_000;
+    @Builder.Default
+    private final int idleEvictionMs = 30_000;
+    @Builder.Default
+    private final int validateAfterInactivityMs = 1_000;
+    @Builder.Default
+    private final int batchSize = 100;
+    @Builder.Default
+    private final int batchReprobeMs = 60_000;
+
+    public static HttpClientConfig defaults() {
+        return builder().build();
+    }
+}
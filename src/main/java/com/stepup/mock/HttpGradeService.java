@@ -0,0 +1,133 @@
+package com.stepup.mock;
+
+import lombok.Getter;
+import org.apache.http.HttpEntity;
+import org.apache.http.client.ResponseHandler;
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.client.methods.HttpGet;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.DefaultHttpRequestRetryHandler;
+import org.apache.http.impl.client.HttpClients;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.apache.http.util.EntityUtils;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+public class HttpGradeService implements GradeService, Closeable {
+
+    @Getter
+    private final HttpClientConfig config;
+    private final PoolingHttpClientConnectionManager connectionManager;
+    private final CloseableHttpClient httpClient;
+    private volatile boolean batchSupported = true;
+    private volatile long batchDisabledAt;
+
+    public HttpGradeService(HttpClientConfig config) {
+        this.config = config;
+        this.connectionManager = new PoolingHttpClientConnectionManager();
+        connectionManager.setMaxTotal(config.getMaxTotal());
+        connectionManager.setDefaultMaxPerRoute(config.getMaxPerRoute());
+        connectionManager.setValidateAfterInactivity(config.getValidateAfterInactivityMs());
+        this.httpClient = HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setConnectTimeout(config.getConnectTimeoutMs())
+                        .setSocketTimeout(config.getSocketTimeoutMs())
+                        .setConnectionRequestTimeout(config.getConnectionRequestTimeoutMs())
+                        .build())
+                .setRetryHandler((exception, executionCount, context) -> !Thread.currentThread().isInterrupted()
+                        && DefaultHttpRequestRetryHandler.INSTANCE.retryRequest(exception, executionCount, context))
+                .evictExpiredConnections()
+                .evictIdleConnections(config.getIdleEvictionMs(), TimeUnit.MILLISECONDS)
+                .build();
+    }
+
+    public static HttpGradeService shared() {
+        return Holder.INSTANCE;
+    }
+
+    @Override
+    public boolean checkGrade(int grade) throws IOException {
+        return Boolean.parseBoolean(get("/checkGrade?grade=" + grade));
+    }
+
+    @Override
+    public int getRatingForGradeSum(int sum) throws IOException {
+        return Integer.parseInt(get("/educ?sum=" + sum).trim());
+    }
+
+    @Override
+    public boolean[] checkGrades(int[] grades) throws IOException {
+        if (!isBatchSupported()) {
+            return GradeService.super.checkGrades(grades);
+        }
+        boolean[] result = new boolean[grades.length];
+        int batchSize = Math.max(1, config.getBatchSize());
+        for (int from = 0; from < grades.length; from += batchSize) {
+            int to = Math.min(grades.length, from + batchSize);
+            StringBuilder query = new StringBuilder("/checkGrades?grades=");
+            for (int i = from; i < to; i++) {
+                if (i > from) {
+                    query.append(',');
+                }
+                query.append(grades[i]);
+            }
+            String body;
+            try {
+                body = get(query.toString());
+            } catch (HttpStatusException e) {
+                if (e.getStatusCode() != 404) {
+                    throw e;
+                }
+                batchDisabledAt = System.nanoTime();
+                batchSupported = false;
+                return GradeService.super.checkGrades(grades);
+            }
+            String[] answers = body.replace("[", "").replace("]", "").split(",");
+            if (answers.length != to - from) {
+                throw new IOException("Expected " + (to - from) + " answers but got: " + body);
+            }
+            for (int i = from; i < to; i++) {
+                result[i] = Boolean.parseBoolean(answers[i - from].trim());
+            }
+        }
+        return result;
+    }
+
+    public boolean isBatchSupported() {
+        if (!batchSupported
+                && System.nanoTime() - batchDisabledAt >= TimeUnit.MILLISECONDS.toNanos(config.getBatchReprobeMs())) {
+            batchSupported = true;
+        }
+        return batchSupported;
+    }
+
+    protected String get(String pathAndQuery) throws IOException {
+        return httpClient.execute(new HttpGet(config.getBaseUrl() + pathAndQuery), BODY_HANDLER);
+    }
+
+    public int getLeasedConnections() {
+        return connectionManager.getTotalStats().getLeased();
+    }
+
+    @Override
+    public void close() throws IOException {
+        httpClient.close();
+    }
+
+    private static final ResponseHandler<String> BODY_HANDLER = response -> {
+        HttpEntity entity = response.getEntity();
+        int status = response.getStatusLine().getStatusCode();
+        String body = entity == null ? "" : EntityUtils.toString(entity);
+        if (status < 200 || status >= 300) {
+            throw new HttpStatusException(status, body);
+        }
+        return body;
+    };
+
+    private static class Holder {
+        private static final HttpGradeService INSTANCE = new HttpGradeService(HttpClientConfig.defaults());
+    }
+}
@@ -0,0 +1,14 @@
+package com.stepup.mock;
+
+import lombok.Getter;
+import org.apache.http.client.ClientProtocolException;
+
+@Getter
+public class HttpStatusException extends ClientProtocolException {
+    private final int statusCode;
+
+    public HttpStatusException(int statusCode, String body) {
+        super("Unexpected status " + statusCode + ": " + body);
+        this.statusCode = statusCode;
+    }
+}
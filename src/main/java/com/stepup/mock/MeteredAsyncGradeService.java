@@ -0,0 +1,46 @@
+package com.stepup.mock;
+
+import com.stepup.util.MetricsRegistry;
+import com.stepup.util.Timer;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+public class MeteredAsyncGradeService implements AsyncGradeService {
+
+    private final AsyncGradeService delegate;
+    private final Timer checkGrade;
+    private final Timer rating;
+
+    public MeteredAsyncGradeService(AsyncGradeService delegate, MetricsRegistry registry) {
+        this.delegate = delegate;
+        this.checkGrade = registry.timer("grade_service.check_grade_async");
+        this.rating = registry.timer("grade_service.rating_async");
+    }
+
+    public static MeteredAsyncGradeService shared() {
+        return Holder.INSTANCE;
+    }
+
+    @Override
+    public CompletableFuture<Boolean> checkGradeAsync(int grade) {
+        return record(checkGrade, () -> delegate.checkGradeAsync(grade));
+    }
+
+    @Override
+    public CompletableFuture<Integer> getRatingForGradeSumAsync(int sum) {
+        return record(rating, () -> delegate.getRatingForGradeSumAsync(sum));
+    }
+
+    private static <T> CompletableFuture<T> record(Timer timer, Supplier<CompletableFuture<T>> call) {
+        long start = System.nanoTime();
+        CompletableFuture<T> result = call.get();
+        result.whenComplete((value, error) -> timer.record(System.nanoTime() - start, error != null));
+        return result;
+    }
+
+    private static class Holder {
+        private static final MeteredAsyncGradeService INSTANCE =
+                new MeteredAsyncGradeService(AsyncHttpGradeService.shared(), MetricsRegistry.global());
+    }
+}
@@ -0,0 +1,45 @@
+package com.stepup.mock;
+
+import com.stepup.util.MetricsRegistry;
+import com.stepup.util.Timer;
+
+import java.io.IOException;
+
+public class MeteredGradeService implements GradeService {
+
+    private final GradeService delegate;
+    private final Timer checkGrade;
+    private final Timer checkGrades;
+    private final Timer rating;
+
+    public MeteredGradeService(GradeService delegate, MetricsRegistry registry) {
+        this.delegate = delegate;
+        this.checkGrade = registry.timer("grade_service.check_grade");
+        this.checkGrades = registry.timer("grade_service.check_grades");
+        this.rating = registry.timer("grade_service.rating");
+    }
+
+    public static MeteredGradeService shared() {
+        return Holder.INSTANCE;
+    }
+
+    @Override
+    public boolean checkGrade(int grade) throws IOException {
+        return checkGrade.record(() -> delegate.checkGrade(grade));
+    }
+
+    @Override
+    public boolean[] checkGrades(int[] grades) throws IOException {
+        return checkGrades.record(() -> delegate.checkGrades(grades));
+    }
+
+    @Override
+    public int getRatingForGradeSum(int sum) throws IOException {
+        return rating.record(() -> delegate.getRatingForGradeSum(sum));
+    }
+
+    private static class Holder {
+        private static final MeteredGradeService INSTANCE =
+                new MeteredGradeService(HttpGradeService.shared(), MetricsRegistry.global());
+    }
+}
@@ -0,0 +1,25 @@
+package com.stepup.mock;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder(toBuilder = true)
+public class ResilienceConfig {
+    @Builder.Default
+    private final int maxAttempts = 3;
+    @Builder.Default
+    private final long initialBackoffMs = 50;
+    @Builder.Default
+    private final long maxBackoffMs = 1_000;
+    @Builder.Default
+    private final int failureThreshold = 5;
+    @Builder.Default
+    private final long openDurationMs = 10_000;
+    @Builder.Default
+    private final boolean localFallback = false;
+
+    public static ResilienceConfig defaults() {
+        return builder().build();
+    }
+}
@@ -0,0 +1,132 @@
+package com.stepup.mock;
+
+import com.stepup.util.CircuitBreaker;
+import lombok.Getter;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+public class ResilientGradeService implements GradeService {
+
+    @FunctionalInterface
+    private interface RemoteCall<T> {
+        T call() throws IOException;
+    }
+
+    @FunctionalInterface
+    private interface Fallback<T> {
+        T apply();
+    }
+
+    private final GradeService delegate;
+    @Getter
+    private final ResilienceConfig config;
+    @Getter
+    private final CircuitBreaker circuitBreaker;
+
+    public ResilientGradeService(GradeService delegate, ResilienceConfig config) {
+        this(delegate, config, new CircuitBreaker(config.getFailureThreshold(),
+                config.getOpenDurationMs(), TimeUnit.MILLISECONDS));
+    }
+
+    public ResilientGradeService(GradeService delegate, ResilienceConfig config, CircuitBreaker circuitBreaker) {
+        if (config.getMaxAttempts() <= 0) {
+            throw new IllegalArgumentException(config.getMaxAttempts() + " is wrong attempt count");
+        }
+        this.delegate = delegate;
+        this.config = config;
+        this.circuitBreaker = circuitBreaker;
+    }
+
+    @Override
+    public boolean checkGrade(int grade) throws IOException {
+        return execute(() -> delegate.checkGrade(grade), () -> isValidLocally(grade));
+    }
+
+    @Override
+    public boolean[] checkGrades(int[] grades) throws IOException {
+        return execute(() -> delegate.checkGrades(grades), () -> {
+            boolean[] result = new boolean[grades.length];
+            for (int i = 0; i < grades.length; i++) {
+                result[i] = isValidLocally(grades[i]);
+            }
+            return result;
+        });
+    }
+
+    @Override
+    public int getRatingForGradeSum(int sum) throws IOException {
+        return execute(() -> delegate.getRatingForGradeSum(sum), null);
+    }
+
+    private <T> T execute(RemoteCall<T> call, Fallback<T> fallback) throws IOException {
+        IOException failure = null;
+        for (int attempt = 0; attempt < config.getMaxAttempts(); attempt++) {
+            if (attempt > 0) {
+                backoff(attempt);
+            }
+            if (!circuitBreaker.tryAcquire()) {
+                if (failure == null) {
+                    failure = new CircuitOpenException("Grade service circuit is open");
+                }
+                break;
+            }
+            try {
+                T result = call.call();
+                circuitBreaker.onSuccess();
+                return result;
+            } catch (IOException e) {
+                if (isInterrupt(e)) {
+                    circuitBreaker.release();
+                    throw e;
+                }
+                if (!isRetryable(e)) {
+                    circuitBreaker.onSuccess();
+                    throw e;
+                }
+                circuitBreaker.onFailure();
+                if (failure != null) {
+                    e.addSuppressed(failure);
+                }
+                failure = e;
+            } catch (RuntimeException | Error e) {
+                circuitBreaker.onFailure();
+                throw e;
+            }
+        }
+        if (fallback != null && config.isLocalFallback()) {
+            return fallback.apply();
+        }
+        throw failure;
+    }
+
+    private void backoff(int attempt) throws InterruptedIOException {
+        long cap = Math.min(config.getMaxBackoffMs(), config.getInitialBackoffMs() << Math.min(attempt - 1, 30));
+        if (cap <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(ThreadLocalRandom.current().nextLong(cap + 1));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while retrying grade service call");
+        }
+    }
+
+    private static boolean isRetryable(IOException e) {
+        if (e instanceof HttpStatusException status) {
+            return status.getStatusCode() >= 500 || status.getStatusCode() == 429;
+        }
+        return true;
+    }
+
+    private static boolean isInterrupt(IOException e) {
+        return e.getClass() == InterruptedIOException.class;
+    }
+
+    private static boolean isValidLocally(int grade) {
+        return grade >= 2 && grade <= 5;
+    }
+}
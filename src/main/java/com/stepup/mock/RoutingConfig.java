@@ -0,0 +1,27 @@
+package com.stepup.mock;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder(toBuilder = true)
+public class RoutingConfig {
+    @Builder.Default
+    private final double ewmaWeight = 0.2;
+    @Builder.Default
+    private final long failurePenaltyMs = 1_000;
+    @Builder.Default
+    private final long decayMs = 5_000;
+    @Builder.Default
+    private final boolean hedging = false;
+    @Builder.Default
+    private final double hedgePercentile = 95.0;
+    @Builder.Default
+    private final long hedgeMinDelayMs = 10;
+    @Builder.Default
+    private final int hedgeWarmupRequests = 20;
+
+    public static RoutingConfig defaults() {
+        return builder().build();
+    }
+}
@@ -0,0 +1,271 @@
+package com.stepup.mock;
+
+import com.stepup.util.MetricsRegistry;
+import com.stepup.util.Timer;
+import lombok.Getter;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+public class RoutingGradeService implements GradeService, Closeable {
+
+    @FunctionalInterface
+    private interface RemoteCall<T> {
+        T call(GradeService service) throws IOException;
+    }
+
+    @Getter
+    private final RoutingConfig config;
+    private final List<Endpoint> endpoints;
+    private final Timer latency;
+    private final ExecutorService executor;
+
+    public RoutingGradeService(List<? extends GradeService> services, RoutingConfig config) {
+        this(services, config, MetricsRegistry.global());
+    }
+
+    public RoutingGradeService(List<? extends GradeService> services, RoutingConfig config, MetricsRegistry registry) {
+        if (services.isEmpty()) {
+            throw new IllegalArgumentException("At least one grade service endpoint is required");
+        }
+        this.config = config;
+        this.latency = registry.timer("grade_service.routing");
+        this.endpoints = new ArrayList<>(services.size());
+        for (GradeService service : services) {
+            endpoints.add(new Endpoint(service));
+        }
+        this.executor = config.isHedging() ? Executors.newVirtualThreadPerTaskExecutor() : null;
+    }
+
+    public static RoutingGradeService forUrls(List<String> baseUrls, HttpClientConfig httpConfig,
+                                              RoutingConfig config) {
+        return forUrls(baseUrls, httpConfig, config, MetricsRegistry.global());
+    }
+
+    public static RoutingGradeService forUrls(List<String> baseUrls, HttpClientConfig httpConfig,
+                                              RoutingConfig config, MetricsRegistry registry) {
+        List<HttpGradeService> services = new ArrayList<>(baseUrls.size());
+        for (String baseUrl : baseUrls) {
+            services.add(new HttpGradeService(httpConfig.toBuilder().baseUrl(baseUrl).build()));
+        }
+        return new RoutingGradeService(services, config, registry);
+    }
+
+    @Override
+    public boolean checkGrade(int grade) throws IOException {
+        return execute(service -> service.checkGrade(grade));
+    }
+
+    @Override
+    public boolean[] checkGrades(int[] grades) throws IOException {
+        return execute(service -> service.checkGrades(grades));
+    }
+
+    @Override
+    public int getRatingForGradeSum(int sum) throws IOException {
+        return execute(service -> service.getRatingForGradeSum(sum));
+    }
+
+    public int getOutstanding(int endpoint) {
+        return endpoints.get(endpoint).outstanding.get();
+    }
+
+    public long getRequests(int endpoint) {
+        return endpoints.get(endpoint).requests.sum();
+    }
+
+    public double getLatencyEwmaMs(int endpoint) {
+        return endpoints.get(endpoint).latencyNanos(System.nanoTime()) / 1_000_000.0;
+    }
+
+    public long getHedgedRequests() {
+        return endpoints.stream().mapToLong(endpoint -> endpoint.hedges.sum()).sum();
+    }
+
+    private <T> T execute(RemoteCall<T> call) throws IOException {
+        Endpoint primary = choose(null);
+        if (executor == null || endpoints.size() < 2) {
+            return primary.call(call);
+        }
+        Attempt<T> first = submit(primary, call);
+        try {
+            return first.result.get(hedgeDelayNanos(), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            Endpoint backup = choose(primary);
+            backup.hedges.increment();
+            return await(firstSuccessful(first, submit(backup, call)));
+        } catch (ExecutionException e) {
+            throw unwrap(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            first.task.cancel(true);
+            throw new InterruptedIOException("Interrupted while waiting for grade service");
+        }
+    }
+
+    private Endpoint choose(Endpoint exclude) {
+        Endpoint best = null;
+        double bestScore = Double.MAX_VALUE;
+        long now = System.nanoTime();
+        for (Endpoint endpoint : endpoints) {
+            if (endpoint == exclude) {
+                continue;
+            }
+            double score = (endpoint.latencyNanos(now) + 1) * (endpoint.outstanding.get() + 1);
+            if (score < bestScore) {
+                best = endpoint;
+                bestScore = score;
+            }
+        }
+        return best;
+    }
+
+    private long hedgeDelayNanos() {
+        long min = TimeUnit.MILLISECONDS.toNanos(config.getHedgeMinDelayMs());
+        if (latency.getCount() < config.getHedgeWarmupRequests()) {
+            return min;
+        }
+        return Math.max(min, latency.percentileNanos(config.getHedgePercentile()));
+    }
+
+    private <T> Attempt<T> submit(Endpoint endpoint, RemoteCall<T> call) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        Future<?> task = executor.submit(() -> {
+            try {
+                result.complete(endpoint.call(call));
+            } catch (Throwable e) {
+                result.completeExceptionally(e);
+            }
+        });
+        return new Attempt<>(result, task);
+    }
+
+    private static <T> CompletableFuture<T> firstSuccessful(Attempt<T> first, Attempt<T> second) {
+        CompletableFuture<T> winner = new CompletableFuture<>();
+        AtomicInteger failures = new AtomicInteger();
+        for (Attempt<T> attempt : List.of(first, second)) {
+            attempt.result.whenComplete((result, error) -> {
+                if (error == null) {
+                    winner.complete(result);
+                } else if (failures.incrementAndGet() == 2) {
+                    winner.completeExceptionally(error);
+                }
+            });
+        }
+        winner.whenComplete((result, error) -> {
+            first.task.cancel(true);
+            second.task.cancel(true);
+        });
+        return winner;
+    }
+
+    private static <T> T await(CompletableFuture<T> future) throws IOException {
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            throw unwrap(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            future.cancel(true);
+            throw new InterruptedIOException("Interrupted while waiting for grade service");
+        }
+    }
+
+    private static IOException unwrap(Throwable error) {
+        Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+        if (cause instanceof IOException io) {
+            return io;
+        }
+        if (cause instanceof RuntimeException runtime) {
+            throw runtime;
+        }
+        if (cause instanceof Error fatal) {
+            throw fatal;
+        }
+        return new IOException(cause);
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+        for (Endpoint endpoint : endpoints) {
+            if (endpoint.service instanceof Closeable closeable) {
+                closeable.close();
+            }
+        }
+    }
+
+    private record Attempt<T>(CompletableFuture<T> result, Future<?> task) {
+    }
+
+    private record Ewma(double nanos, long updatedAt) {
+    }
+
+    private final class Endpoint {
+        private final GradeService service;
+        private final AtomicInteger outstanding = new AtomicInteger();
+        private final LongAdder requests = new LongAdder();
+        private final LongAdder hedges = new LongAdder();
+        private final AtomicReference<Ewma> ewma = new AtomicReference<>(new Ewma(0, System.nanoTime()));
+
+        private Endpoint(GradeService service) {
+            this.service = service;
+        }
+
+        private <T> T call(RemoteCall<T> call) throws IOException {
+            outstanding.incrementAndGet();
+            requests.increment();
+            long start = System.nanoTime();
+            boolean failed = true;
+            try {
+                T result = call.call(service);
+                failed = false;
+                return result;
+            } finally {
+                long end = System.nanoTime();
+                long elapsed = end - start;
+                outstanding.decrementAndGet();
+                boolean cancelled = failed && Thread.currentThread().isInterrupted();
+                if (!cancelled) {
+                    latency.record(elapsed, failed);
+                }
+                long sample = failed && !cancelled
+                        ? Math.max(elapsed, TimeUnit.MILLISECONDS.toNanos(config.getFailurePenaltyMs()))
+                        : elapsed;
+                ewma.updateAndGet(current -> {
+                    double decayed = decay(current, end);
+                    return new Ewma(decayed + config.getEwmaWeight() * (sample - decayed), end);
+                });
+            }
+        }
+
+        private double latencyNanos(long now) {
+            return decay(ewma.get(), now);
+        }
+
+        private double decay(Ewma current, long now) {
+            long idle = now - current.updatedAt();
+            long decayNanos = TimeUnit.MILLISECONDS.toNanos(config.getDecayMs());
+            if (idle <= 0 || decayNanos <= 0) {
+                return current.nanos();
+            }
+            return current.nanos() * Math.exp(-(double) idle / decayNanos);
+        }
+    }
+}
@@ -1,52 +1,128 @@
 package com.stepup.mock;
 
+import com.stepup.util.Futures;
+import com.stepup.util.GradeList;
+import com.stepup.util.GradeStats;
 import lombok.*;
-import org.apache.http.HttpEntity;
-import org.apache.http.client.methods.CloseableHttpResponse;
-import org.apache.http.client.methods.HttpGet;
-import org.apache.http.impl.client.CloseableHttpClient;
-import org.apache.http.impl.client.HttpClients;
-import org.apache.http.util.EntityUtils;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
 
-@ToString
-@EqualsAndHashCode
+@ToString(doNotUseGetters = true)
+@EqualsAndHashCode(doNotUseGetters = true)
 public class Student {
 
     @Getter
     @Setter
     private String name;
-    private List<Integer> grades = new ArrayList<>();
+    private final GradeList grades = new GradeList();
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private volatile GradeList published = new GradeList();
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private GradeService gradeService = MeteredGradeService.shared();
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private AsyncGradeService asyncGradeService;
 
     public Student(String name) {
         this.name = name;
     }
 
-    public List<Integer> getGrades() {
+    public synchronized List<Integer> getGrades() {
         return new ArrayList<>(grades);
     }
 
+    public List<Integer> getGradesView() {
+        return published.view();
+    }
+
+    public IntStream gradeStream() {
+        return published.intStream();
+    }
+
+    public synchronized void forEachGrade(IntConsumer action) {
+        grades.forEachInt(action);
+    }
+
+    public synchronized GradeStats getStats() {
+        return grades.stats();
+    }
+
+    public void setGradeService(GradeService gradeService) {
+        this.gradeService = gradeService;
+    }
+
+    public void setAsyncGradeService(AsyncGradeService asyncGradeService) {
+        this.asyncGradeService = asyncGradeService;
+    }
+
+    private AsyncGradeService asyncGradeService() {
+        if (asyncGradeService == null) {
+            asyncGradeService = MeteredAsyncGradeService.shared();
+        }
+        return asyncGradeService;
+    }
+
     @SneakyThrows
     public void addGrade(int grade) throws IOException {
-        CloseableHttpClient httpClient = HttpClients.createDefault();
-        HttpGet request = new HttpGet("http://localhost:5352/checkGrade?grade="+grade);
-        CloseableHttpResponse httpResponse = httpClient.execute(request);
-        HttpEntity entity = httpResponse.getEntity();
-        if(!Boolean.parseBoolean(EntityUtils.toString(entity))){
+        if (!gradeService.checkGrade(grade)) {
             throw new IllegalArgumentException(grade + " is wrong grade");
         }
-        grades.add(grade);
+        appendGrade(grade);
+    }
+
+    public CompletableFuture<Void> addGradeAsync(int grade) {
+        CompletableFuture<Boolean> check = asyncGradeService().checkGradeAsync(grade);
+        return Futures.cancelling(check.thenAccept(valid -> {
+            if (!valid) {
+                throw new IllegalArgumentException(grade + " is wrong grade");
+            }
+            appendGrade(grade);
+        }), check);
+    }
+
+    @SneakyThrows
+    public void addGrades(int... newGrades) throws IOException {
+        boolean[] valid = gradeService.checkGrades(newGrades);
+        for (int i = 0; i < newGrades.length; i++) {
+            if (!valid[i]) {
+                throw new IllegalArgumentException(newGrades[i] + " is wrong grade");
+            }
+        }
+        synchronized (this) {
+            for (int grade : newGrades) {
+                grades.append(grade);
+            }
+            published = grades.copy();
+        }
+    }
+
+    public void addGrades(Collection<Integer> newGrades) throws IOException {
+        addGrades(newGrades.stream().mapToInt(Integer::intValue).toArray());
     }
 
     @SneakyThrows
     public int raiting() throws IOException {
-        CloseableHttpClient httpClient = HttpClients.createDefault();
-        HttpGet request = new HttpGet("http://localhost:5352/educ?sum="+grades.stream().mapToInt(x->x).sum());
-        CloseableHttpResponse httpResponse = httpClient.execute(request);
-        HttpEntity entity = httpResponse.getEntity();
-        return Integer.parseInt(EntityUtils.toString(entity));
+        return gradeService.getRatingForGradeSum(gradeSum());
+    }
+
+    public CompletableFuture<Integer> ratingAsync() {
+        return asyncGradeService().getRatingForGradeSumAsync(gradeSum());
+    }
+
+    private synchronized void appendGrade(int grade) {
+        grades.append(grade);
+        published = grades.copy();
+    }
+
+    private synchronized int gradeSum() {
+        return (int) grades.sum();
     }
 }
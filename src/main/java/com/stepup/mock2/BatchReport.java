@@ -0,0 +1,12 @@
+package com.stepup.mock2;
+
+public record BatchReport(Operation operation, int received, int written, long nanos) {
+
+    public enum Operation {
+        SAVE, DELETE
+    }
+
+    public int coalesced() {
+        return received - written;
+    }
+}
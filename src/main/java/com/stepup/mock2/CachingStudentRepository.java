@@ -0,0 +1,173 @@
+package com.stepup.mock2;
+
+import com.stepup.util.LruCache;
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+public class CachingStudentRepository implements StudentRepository {
+
+    private static final String COUNT = "count";
+
+    private final StudentRepository delegate;
+    private final AtomicLong writes = new AtomicLong();
+    @Getter
+    private final LruCache<Long, Student> studentCache;
+    @Getter
+    private final LruCache<Integer, Integer> ratingCache;
+    @Getter
+    private final LruCache<String, Long> countCache;
+
+    public CachingStudentRepository(StudentRepository delegate, int maxSize, long ttl, TimeUnit unit) {
+        this(delegate, new LruCache<>(maxSize, ttl, unit), new LruCache<>(maxSize, ttl, unit),
+                new LruCache<>(1, ttl, unit));
+    }
+
+    public CachingStudentRepository(StudentRepository delegate, LruCache<Long, Student> studentCache,
+                                    LruCache<Integer, Integer> ratingCache, LruCache<String, Long> countCache) {
+        this.delegate = delegate;
+        this.studentCache = studentCache;
+        this.ratingCache = ratingCache;
+        this.countCache = countCache;
+        delegate.addRatingChangeListener(ratingCache::invalidateAll);
+        FrontBinding.bind(delegate, this);
+    }
+
+    @Override
+    public int getRatingForGradeSum(int sum) {
+        Integer cached = ratingCache.get(sum);
+        if (cached != null) {
+            return cached;
+        }
+        int rating = delegate.getRatingForGradeSum(sum);
+        ratingCache.put(sum, rating);
+        return rating;
+    }
+
+    @Override
+    public long count() {
+        Long cached = countCache.get(COUNT);
+        if (cached != null) {
+            return cached;
+        }
+        long version = writes.get();
+        long count = delegate.count();
+        countCache.putIf(COUNT, count, () -> writes.get() == version);
+        return count;
+    }
+
+    @Override
+    public Optional<Student> findById(long id) {
+        Student cached = studentCache.get(id);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        long version = writes.get();
+        Optional<Student> student = delegate.findById(id);
+        student.ifPresent(found -> studentCache.putIf(id, found, () -> writes.get() == version));
+        return student;
+    }
+
+    @Override
+    public void delete(Student entity) {
+        try {
+            delegate.delete(entity);
+        } finally {
+            invalidate(entity);
+        }
+    }
+
+    @Override
+    public boolean deleteById(long id) {
+        try {
+            return delegate.deleteById(id);
+        } finally {
+            writes.incrementAndGet();
+            studentCache.invalidate(id);
+            countCache.invalidateAll();
+        }
+    }
+
+    @Override
+    public void deleteAll(Iterable<Student> entities) {
+        List<Student> batch = toList(entities);
+        try {
+            delegate.deleteAll(batch);
+        } finally {
+            batch.forEach(this::invalidate);
+        }
+    }
+
+    @Override
+    public Student save(Student entity) {
+        try {
+            return delegate.save(entity);
+        } finally {
+            invalidate(entity);
+        }
+    }
+
+    @Override
+    public Iterable<Student> saveAll(Iterable<Student> entities) {
+        List<Student> batch = toList(entities);
+        try {
+            return delegate.saveAll(batch);
+        } finally {
+            batch.forEach(this::invalidate);
+        }
+    }
+
+    @Override
+    public Iterable<Student> findAll() {
+        return delegate.findAll();
+    }
+
+    @Override
+    public Stream<Student> streamAll() {
+        return delegate.streamAll();
+    }
+
+    @Override
+    public List<Student> findTopStudents() {
+        return delegate.findTopStudents();
+    }
+
+    @Override
+    public void addRatingChangeListener(Runnable listener) {
+        delegate.addRatingChangeListener(listener);
+    }
+
+    @Override
+    public void gradesChanged(Student entity) {
+        delegate.gradesChanged(entity);
+    }
+
+    void bindTo(StudentRepository front) {
+        FrontBinding.bind(delegate, front);
+    }
+
+    private static List<Student> toList(Iterable<Student> entities) {
+        List<Student> list = new ArrayList<>();
+        entities.forEach(list::add);
+        return list;
+    }
+
+    private void invalidate(Student entity) {
+        writes.incrementAndGet();
+        if (entity != null && entity.getId() != null) {
+            studentCache.invalidate(entity.getId());
+        }
+        countCache.invalidateAll();
+    }
+
+    @Override
+    public String toString() {
+        return "CachingStudentRepository{students=" + studentCache + ", ratings=" + ratingCache
+                + ", count=" + countCache + '}';
+    }
+}
@@ -0,0 +1,117 @@
+package com.stepup.mock2;
+
+import com.stepup.util.GradeStats;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.function.IntUnaryOperator;
+import java.util.stream.Stream;
+
+public record CohortStatistics(long students, long gradedStudents, Map<Integer, Long> gradeHistogram,
+                               double meanAverage, double medianAverage, NavigableMap<Integer, Long> ratingBuckets) {
+
+    private static final int MIN_GRADE = 2;
+    private static final int MAX_GRADE = 5;
+    // averages are bucketed to 1/1000 of a grade, so the median is exact to within 0.0005
+    private static final int MEDIAN_STEPS_PER_GRADE = 1_000;
+    private static final int MEDIAN_BUCKETS = (MAX_GRADE - MIN_GRADE) * MEDIAN_STEPS_PER_GRADE + 1;
+    // grade sums below this are counted densely; larger ones are rare and go to a sparse map
+    private static final int DENSE_SUMS = 1_024;
+
+    public static CohortStatistics of(StudentRepository repo) {
+        return of(repo.streamAll().parallel(), repo::getRatingForGradeSum);
+    }
+
+    public static CohortStatistics of(Stream<Student> students, IntUnaryOperator ratingForGradeSum) {
+        return students.collect(Accumulator::new, Accumulator::accept, Accumulator::combine)
+                .finish(ratingForGradeSum);
+    }
+
+    public long gradeCount(int grade) {
+        return gradeHistogram.getOrDefault(grade, 0L);
+    }
+
+    private static final class Accumulator {
+        private final long[] grades = new long[MAX_GRADE - MIN_GRADE + 1];
+        private final long[] sums = new long[DENSE_SUMS];
+        private final Map<Long, Long> largeSums = new HashMap<>();
+        private final long[] averages = new long[MEDIAN_BUCKETS];
+        private long graded;
+        private long students;
+        private double averageSum;
+
+        void accept(Student student) {
+            GradeStats stats = student.getStats();
+            students++;
+            if (stats.sum() < DENSE_SUMS) {
+                sums[(int) stats.sum()]++;
+            } else {
+                largeSums.merge(stats.sum(), 1L, Long::sum);
+            }
+            if (stats.count() == 0) {
+                return;
+            }
+            student.forEachGrade(grade -> grades[grade - MIN_GRADE]++);
+            double average = stats.average();
+            if (average < MIN_GRADE || average > MAX_GRADE) {
+                throw new IllegalArgumentException(average + " is wrong average for student " + student.getId());
+            }
+            averages[(int) Math.round((average - MIN_GRADE) * MEDIAN_STEPS_PER_GRADE)]++;
+            graded++;
+            averageSum += average;
+        }
+
+        void combine(Accumulator other) {
+            for (int i = 0; i < grades.length; i++) {
+                grades[i] += other.grades[i];
+            }
+            for (int i = 0; i < sums.length; i++) {
+                sums[i] += other.sums[i];
+            }
+            other.largeSums.forEach((sum, count) -> largeSums.merge(sum, count, Long::sum));
+            for (int i = 0; i < averages.length; i++) {
+                averages[i] += other.averages[i];
+            }
+            graded += other.graded;
+            students += other.students;
+            averageSum += other.averageSum;
+        }
+
+        CohortStatistics finish(IntUnaryOperator ratingForGradeSum) {
+            Map<Integer, Long> histogram = new TreeMap<>();
+            for (int i = 0; i < grades.length; i++) {
+                histogram.put(MIN_GRADE + i, grades[i]);
+            }
+            NavigableMap<Integer, Long> ratings = new TreeMap<>();
+            for (int sum = 0; sum < sums.length; sum++) {
+                if (sums[sum] > 0) {
+                    ratings.merge(ratingForGradeSum.applyAsInt(sum), sums[sum], Long::sum);
+                }
+            }
+            largeSums.forEach((sum, count) -> ratings.merge(ratingForGradeSum.applyAsInt((int) (long) sum), count,
+                    Long::sum));
+            double median = 0.0;
+            if (graded > 0) {
+                median = graded % 2 == 1
+                        ? averageAt(graded / 2)
+                        : (averageAt(graded / 2 - 1) + averageAt(graded / 2)) / 2;
+            }
+            return new CohortStatistics(students, graded, Collections.unmodifiableMap(histogram),
+                    graded == 0 ? 0.0 : averageSum / graded, median, Collections.unmodifiableNavigableMap(ratings));
+        }
+
+        private double averageAt(long rank) {
+            long seen = 0;
+            for (int i = 0; i < averages.length; i++) {
+                seen += averages[i];
+                if (seen > rank) {
+                    return MIN_GRADE + (double) i / MEDIAN_STEPS_PER_GRADE;
+                }
+            }
+            throw new IllegalStateException("Rank " + rank + " is beyond " + graded + " graded students");
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.stepup.mock2;
+
+final class FrontBinding {
+
+    private FrontBinding() {
+    }
+
+    static void bind(StudentRepository repo, StudentRepository front) {
+        if (repo instanceof InMemoryStudentRepository memory) {
+            memory.bindTo(front);
+        } else if (repo instanceof CachingStudentRepository caching) {
+            caching.bindTo(front);
+        } else if (repo instanceof MeteredStudentRepository metered) {
+            metered.bindTo(front);
+        }
+    }
+}
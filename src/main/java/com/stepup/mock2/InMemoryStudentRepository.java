@@ -0,0 +1,259 @@
+package com.stepup.mock2;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.IntUnaryOperator;
+import java.util.stream.Stream;
+
+public class InMemoryStudentRepository implements StudentRepository {
+
+    protected final ConcurrentHashMap<Long, Student> students = new ConcurrentHashMap<>();
+    private final AtomicLong sequence = new AtomicLong();
+    private final Set<Long> reserved = ConcurrentHashMap.newKeySet();
+    private volatile IntUnaryOperator ratingForGradeSum;
+    private volatile int batchSize = 1_000;
+    private volatile Consumer<BatchReport> batchListener = report -> { };
+    private final List<Runnable> ratingChangeListeners = new CopyOnWriteArrayList<>();
+    private final TopStudentIndex topIndex = new TopStudentIndex();
+    private volatile StudentRepository front = this;
+
+    public InMemoryStudentRepository(IntUnaryOperator ratingForGradeSum) {
+        this.ratingForGradeSum = ratingForGradeSum;
+    }
+
+    public void setRatingForGradeSum(IntUnaryOperator ratingForGradeSum) {
+        this.ratingForGradeSum = ratingForGradeSum;
+        ratingChangeListeners.forEach(Runnable::run);
+    }
+
+    @Override
+    public void addRatingChangeListener(Runnable listener) {
+        ratingChangeListeners.add(listener);
+    }
+
+    public void setBatchSize(int batchSize) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException(batchSize + " is wrong batch size");
+        }
+        this.batchSize = batchSize;
+    }
+
+    public void setBatchListener(Consumer<BatchReport> batchListener) {
+        this.batchListener = batchListener;
+    }
+
+    @Override
+    public int getRatingForGradeSum(int sum) {
+        return ratingForGradeSum.applyAsInt(sum);
+    }
+
+    @Override
+    public long count() {
+        return students.mappingCount();
+    }
+
+    @Override
+    public void delete(Student entity) {
+        requireEntity(entity);
+        if (entity.getId() != null) {
+            deleteById(entity.getId());
+        }
+    }
+
+    @Override
+    public void deleteAll(Iterable<Student> entities) {
+        int limit = batchSize;
+        Set<Long> batch = new LinkedHashSet<>();
+        int received = 0;
+        for (Student entity : entities) {
+            requireEntity(entity);
+            received++;
+            if (entity.getId() != null) {
+                batch.add(entity.getId());
+            }
+            if (received == limit) {
+                flushDeletes(batch, received);
+                received = 0;
+            }
+        }
+        if (received > 0) {
+            flushDeletes(batch, received);
+        }
+    }
+
+    @Override
+    public Iterable<Student> findAll() {
+        return List.copyOf(students.values());
+    }
+
+    @Override
+    public Stream<Student> streamAll() {
+        return students.values().stream();
+    }
+
+    @Override
+    public Optional<Student> findById(long id) {
+        return Optional.ofNullable(students.get(id));
+    }
+
+    @Override
+    public boolean existsById(long id) {
+        return students.containsKey(id);
+    }
+
+    @Override
+    public boolean deleteById(long id) {
+        return remove(id);
+    }
+
+    private boolean remove(long id) {
+        boolean[] removed = new boolean[1];
+        students.computeIfPresent(id, (key, current) -> {
+            topIndex.remove(key);
+            removed[0] = true;
+            return null;
+        });
+        return removed[0];
+    }
+
+    @Override
+    public void gradesChanged(Student entity) {
+        Long id = entity.getId();
+        if (id != null) {
+            students.computeIfPresent(id, (key, current) -> {
+                if (current == entity) {
+                    topIndex.update(entity);
+                }
+                return current;
+            });
+        }
+    }
+
+    void bindTo(StudentRepository front) {
+        this.front = front;
+        students.values().forEach(student -> student.setRepo(front));
+    }
+
+    @Override
+    public List<Student> findTopStudents() {
+        List<Student> top = new ArrayList<>();
+        for (Long id : topIndex.topIds()) {
+            Student student = students.get(id);
+            if (student != null) {
+                top.add(student);
+            }
+        }
+        return top;
+    }
+
+    @Override
+    public Student save(Student entity) {
+        requireEntity(entity);
+        store(assignId(entity), entity);
+        return entity;
+    }
+
+    @Override
+    public Iterable<Student> saveAll(Iterable<Student> entities) {
+        int limit = batchSize;
+        List<Student> saved = new ArrayList<>();
+        Map<Long, Student> batch = new LinkedHashMap<>();
+        int received = 0;
+        try {
+            for (Student entity : entities) {
+                requireEntity(entity);
+                saved.add(entity);
+                received++;
+                batch.put(assignId(entity), entity);
+                if (received == limit) {
+                    int flushed = received;
+                    received = 0;
+                    flushSaves(batch, flushed);
+                }
+            }
+        } finally {
+            if (received > 0) {
+                flushSaves(batch, received);
+            }
+        }
+        return saved;
+    }
+
+    protected void writeBatch(Collection<Student> batch) {
+        for (Student entity : batch) {
+            store(entity.getId(), entity);
+        }
+    }
+
+    protected void deleteBatch(Collection<Long> ids) {
+        for (Long id : ids) {
+            remove(id);
+        }
+    }
+
+    private void flushSaves(Map<Long, Student> batch, int received) {
+        long start = System.nanoTime();
+        writeBatch(batch.values());
+        batchListener.accept(new BatchReport(BatchReport.Operation.SAVE, received, batch.size(),
+                System.nanoTime() - start));
+        batch.clear();
+    }
+
+    private void flushDeletes(Set<Long> batch, int received) {
+        long start = System.nanoTime();
+        deleteBatch(batch);
+        batchListener.accept(new BatchReport(BatchReport.Operation.DELETE, received, batch.size(),
+                System.nanoTime() - start));
+        batch.clear();
+    }
+
+    private void store(long id, Student entity) {
+        students.compute(id, (key, current) -> {
+            if (current != entity && reserved.contains(key)) {
+                throw new IllegalStateException("Student id " + key + " is being assigned to another student");
+            }
+            attach(entity);
+            reserved.remove(key);
+            return entity;
+        });
+    }
+
+    protected void attach(Student entity) {
+        entity.setRepo(front);
+        topIndex.update(entity);
+    }
+
+    protected long assignId(Student entity) {
+        Long id = entity.getId();
+        if (id != null) {
+            long explicitId = id;
+            sequence.accumulateAndGet(explicitId, Math::max);
+            return explicitId;
+        }
+        while (true) {
+            long next = sequence.incrementAndGet();
+            reserved.add(next);
+            if (students.putIfAbsent(next, entity) == null) {
+                entity.setId(next);
+                return next;
+            }
+            reserved.remove(next);
+        }
+    }
+
+    private static void requireEntity(Student entity) {
+        if (entity == null) {
+            throw new IllegalArgumentException("Student must not be null");
+        }
+    }
+}
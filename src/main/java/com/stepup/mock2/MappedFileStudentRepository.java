@@ -0,0 +1,427 @@
+package com.stepup.mock2;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntUnaryOperator;
+import java.util.zip.CRC32C;
+
+public class MappedFileStudentRepository extends InMemoryStudentRepository implements Closeable {
+
+    private static final System.Logger LOG = System.getLogger(MappedFileStudentRepository.class.getName());
+    private static final int MAGIC = 0x53544C32;
+    private static final int HEADER_SIZE = Integer.BYTES;
+    private static final int RECORD_HEADER_SIZE = Integer.BYTES * 2;
+    private static final byte SAVE = 1;
+    private static final byte DELETE = 2;
+
+    private final Path file;
+    private final MappedLogConfig config;
+    private final Object writeLock = new Object();
+    private final ScheduledExecutorService background;
+    private FileChannel channel;
+    private MappedByteBuffer buffer;
+    private int unsyncedWrites;
+    private long records;
+
+    public MappedFileStudentRepository(Path file, IntUnaryOperator ratingForGradeSum) throws IOException {
+        this(file, ratingForGradeSum, MappedLogConfig.defaults());
+    }
+
+    public MappedFileStudentRepository(Path file, IntUnaryOperator ratingForGradeSum, MappedLogConfig config)
+            throws IOException {
+        super(ratingForGradeSum);
+        this.file = file;
+        this.config = config;
+        open();
+        if (config.isReadOnly()) {
+            this.background = null;
+            return;
+        }
+        this.background = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "student-log-" + file.getFileName());
+            thread.setDaemon(true);
+            return thread;
+        });
+        if (config.getSyncIntervalMs() > 0) {
+            background.scheduleWithFixedDelay(() -> runInBackground("sync", this::sync),
+                    config.getSyncIntervalMs(), config.getSyncIntervalMs(), TimeUnit.MILLISECONDS);
+        }
+        if (config.getCompactionIntervalMs() > 0) {
+            background.scheduleWithFixedDelay(() -> runInBackground("compaction", this::compactIfNeeded),
+                    config.getCompactionIntervalMs(), config.getCompactionIntervalMs(), TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @Override
+    public Student save(Student entity) {
+        requireWritable();
+        synchronized (writeLock) {
+            super.save(entity);
+            append(SAVE, entity.getId(), entity);
+        }
+        return entity;
+    }
+
+    @Override
+    public void delete(Student entity) {
+        if (entity != null && entity.getId() != null) {
+            deleteById(entity.getId());
+        } else {
+            super.delete(entity);
+        }
+    }
+
+    @Override
+    public boolean deleteById(long id) {
+        requireWritable();
+        synchronized (writeLock) {
+            boolean removed = super.deleteById(id);
+            if (removed) {
+                append(DELETE, id, null);
+            }
+            return removed;
+        }
+    }
+
+    @Override
+    public void gradesChanged(Student entity) {
+        Long id = entity.getId();
+        if (id == null) {
+            return;
+        }
+        requireWritable();
+        synchronized (writeLock) {
+            if (students.get(id) == entity) {
+                super.gradesChanged(entity);
+                append(SAVE, id, entity);
+            }
+        }
+    }
+
+    @Override
+    public Iterable<Student> saveAll(Iterable<Student> entities) {
+        requireWritable();
+        return super.saveAll(entities);
+    }
+
+    @Override
+    public void deleteAll(Iterable<Student> entities) {
+        requireWritable();
+        super.deleteAll(entities);
+    }
+
+    @Override
+    protected void writeBatch(Collection<Student> batch) {
+        synchronized (writeLock) {
+            super.writeBatch(batch);
+            for (Student entity : batch) {
+                append(SAVE, entity.getId(), entity);
+            }
+        }
+    }
+
+    @Override
+    protected void deleteBatch(Collection<Long> ids) {
+        synchronized (writeLock) {
+            for (Long id : ids) {
+                if (super.deleteById(id)) {
+                    append(DELETE, id, null);
+                }
+            }
+        }
+    }
+
+    public long getLogRecords() {
+        synchronized (writeLock) {
+            return records;
+        }
+    }
+
+    public long getLogSize() {
+        synchronized (writeLock) {
+            return buffer.position();
+        }
+    }
+
+    public void sync() {
+        synchronized (writeLock) {
+            if (unsyncedWrites > 0) {
+                buffer.force();
+                unsyncedWrites = 0;
+            }
+        }
+    }
+
+    public boolean compactIfNeeded() {
+        synchronized (writeLock) {
+            long live = count();
+            long garbage = records - live;
+            if (records < config.getCompactionMinRecords() || garbage <= live * config.getCompactionGarbageRatio()) {
+                return false;
+            }
+            compact();
+            return true;
+        }
+    }
+
+    public void compact() {
+        requireWritable();
+        synchronized (writeLock) {
+            Path tmp = file.resolveSibling(file.getFileName() + ".compact");
+            FileChannel oldChannel = channel;
+            MappedByteBuffer oldBuffer = buffer;
+            long oldRecords = records;
+            try {
+                List<Student> live = List.copyOf(students.values());
+                oldBuffer.force();
+                Files.deleteIfExists(tmp);
+                channel = FileChannel.open(tmp, StandardOpenOption.CREATE_NEW,
+                        StandardOpenOption.READ, StandardOpenOption.WRITE);
+                map(Math.max(config.getInitialSize(), HEADER_SIZE), 0);
+                buffer.putInt(MAGIC);
+                records = 0;
+                for (Student student : live) {
+                    append(SAVE, student.getId(), student);
+                }
+                buffer.force();
+                Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (IOException | RuntimeException e) {
+                abortCompaction(tmp, oldChannel, oldBuffer, oldRecords, e);
+                throw e instanceof IOException io ? new UncheckedIOException(io) : (RuntimeException) e;
+            }
+            unsyncedWrites = 0;
+            try {
+                oldChannel.close();
+            } catch (IOException e) {
+                LOG.log(System.Logger.Level.WARNING, "Failed to close the pre-compaction log of " + file, e);
+            }
+        }
+    }
+
+    private void abortCompaction(Path tmp, FileChannel oldChannel, MappedByteBuffer oldBuffer, long oldRecords,
+                                 Exception cause) {
+        try {
+            if (channel != oldChannel) {
+                channel.close();
+            }
+            Files.deleteIfExists(tmp);
+        } catch (IOException e) {
+            cause.addSuppressed(e);
+        }
+        channel = oldChannel;
+        buffer = oldBuffer;
+        records = oldRecords;
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (background != null) {
+            background.shutdownNow();
+        }
+        synchronized (writeLock) {
+            if (!config.isReadOnly()) {
+                buffer.force();
+            }
+            channel.close();
+        }
+    }
+
+    private void requireWritable() {
+        if (config.isReadOnly()) {
+            throw new UnsupportedOperationException("Student log " + file + " is open read-only");
+        }
+    }
+
+    private void open() throws IOException {
+        if (config.isReadOnly()) {
+            channel = FileChannel.open(file, StandardOpenOption.READ);
+            long size = channel.size();
+            if (size < HEADER_SIZE || size > Integer.MAX_VALUE) {
+                throw new IOException(file + " is not a student log");
+            }
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            if (buffer.getInt() != MAGIC) {
+                throw new IOException(file + " is not a student log");
+            }
+            replay();
+            return;
+        }
+        channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        long size = channel.size();
+        map(Math.max(size, Math.max(config.getInitialSize(), HEADER_SIZE)), 0);
+        if (size == 0) {
+            buffer.putInt(MAGIC);
+            return;
+        }
+        if (buffer.getInt() != MAGIC) {
+            throw new IOException(file + " is not a student log");
+        }
+        replay();
+    }
+
+    private void replay() {
+        while (buffer.remaining() >= RECORD_HEADER_SIZE) {
+            int start = buffer.position();
+            int length = buffer.getInt();
+            int crc = buffer.getInt();
+            if (length < 1 + Long.BYTES || length > buffer.remaining()
+                    || crc != checksum(start + RECORD_HEADER_SIZE, length)
+                    || !replayRecord(start + RECORD_HEADER_SIZE + length)) {
+                buffer.position(start);
+                break;
+            }
+            records++;
+        }
+        discardTail();
+        students.values().forEach(this::attach);
+    }
+
+    private boolean replayRecord(int end) {
+        byte type = buffer.get();
+        long id = buffer.getLong();
+        if (type == DELETE) {
+            if (buffer.position() != end) {
+                return false;
+            }
+            students.remove(id);
+            return true;
+        }
+        if (type != SAVE) {
+            return false;
+        }
+        Student student;
+        try {
+            student = readStudent(id, end);
+        } catch (RuntimeException e) {
+            return false;
+        }
+        if (buffer.position() != end) {
+            return false;
+        }
+        students.put(assignId(student), student);
+        return true;
+    }
+
+    private void discardTail() {
+        int start = buffer.position();
+        int end = buffer.limit();
+        int dirty = start;
+        for (int i = start; i < end; i++) {
+            if (buffer.get(i) != 0) {
+                dirty = i + 1;
+            }
+        }
+        if (dirty == start) {
+            return;
+        }
+        if (config.isReadOnly()) {
+            LOG.log(System.Logger.Level.WARNING, "Ignoring {0} bytes of incomplete records at offset {1} in {2}",
+                    dirty - start, start, file);
+            return;
+        }
+        LOG.log(System.Logger.Level.WARNING, "Discarding {0} bytes of incomplete records at offset {1} in {2}",
+                dirty - start, start, file);
+        for (int i = start; i < dirty; i++) {
+            buffer.put(i, (byte) 0);
+        }
+        buffer.force();
+    }
+
+    private int checksum(int offset, int length) {
+        CRC32C crc = new CRC32C();
+        crc.update(buffer.slice(offset, length));
+        return (int) crc.getValue();
+    }
+
+    private void runInBackground(String task, Runnable action) {
+        try {
+            action.run();
+        } catch (RuntimeException e) {
+            LOG.log(System.Logger.Level.ERROR, "Background " + task + " of " + file + " failed", e);
+        }
+    }
+
+    private Student readStudent(long id, int end) {
+        int nameLength = buffer.getInt();
+        if (nameLength < 0 || nameLength > end - buffer.position()) {
+            throw new IllegalArgumentException("Corrupted name length " + nameLength);
+        }
+        byte[] name = new byte[nameLength];
+        buffer.get(name);
+        Student student = new Student(new String(name, StandardCharsets.UTF_8));
+        student.setId(id);
+        int grades = buffer.getInt();
+        if (grades < 0 || grades > end - buffer.position()) {
+            throw new IllegalArgumentException("Corrupted grade count " + grades);
+        }
+        for (int i = 0; i < grades; i++) {
+            student.addGrade(buffer.get());
+        }
+        return student;
+    }
+
+    private void append(byte type, long id, Student student) {
+        byte[] name = student == null ? null : student.getName().getBytes(StandardCharsets.UTF_8);
+        List<Integer> grades = student == null ? List.of() : student.getGrades();
+        int length = 1 + Long.BYTES + (student == null ? 0 : Integer.BYTES + name.length + Integer.BYTES + grades.size());
+        ensureCapacity(RECORD_HEADER_SIZE + length + Integer.BYTES);
+
+        int start = buffer.position();
+        buffer.position(start + RECORD_HEADER_SIZE);
+        buffer.put(type);
+        buffer.putLong(id);
+        if (student != null) {
+            buffer.putInt(name.length);
+            buffer.put(name);
+            buffer.putInt(grades.size());
+            for (Integer grade : grades) {
+                buffer.put(grade.byteValue());
+            }
+        }
+        int end = buffer.position();
+        buffer.putInt(start + Integer.BYTES, checksum(start + RECORD_HEADER_SIZE, length));
+        buffer.putInt(start, length);
+        buffer.position(end);
+        records++;
+
+        if (++unsyncedWrites >= config.getSyncEveryWrites()) {
+            buffer.force();
+            unsyncedWrites = 0;
+        }
+    }
+
+    private void ensureCapacity(int bytes) {
+        if (buffer.remaining() >= bytes) {
+            return;
+        }
+        long required = (long) buffer.position() + bytes;
+        long newSize = Math.max(required, (long) buffer.capacity() * 2);
+        if (newSize > Integer.MAX_VALUE) {
+            throw new IllegalStateException("Student log " + file + " exceeds 2 GB, compact it first");
+        }
+        try {
+            buffer.force();
+            map(newSize, buffer.position());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void map(long size, int position) throws IOException {
+        buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+        buffer.position(position);
+    }
+}
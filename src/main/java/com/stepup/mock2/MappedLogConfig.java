@@ -0,0 +1,27 @@
+package com.stepup.mock2;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder(toBuilder = true)
+public class MappedLogConfig {
+    @Builder.Default
+    private final int initialSize = 1 << 20;
+    @Builder.Default
+    private final int syncEveryWrites = 1_000;
+    @Builder.Default
+    private final long syncIntervalMs = 200;
+    @Builder.Default
+    private final long compactionIntervalMs = 60_000;
+    @Builder.Default
+    private final double compactionGarbageRatio = 0.5;
+    @Builder.Default
+    private final int compactionMinRecords = 10_000;
+    @Builder.Default
+    private final boolean readOnly = false;
+
+    public static MappedLogConfig defaults() {
+        return builder().build();
+    }
+}
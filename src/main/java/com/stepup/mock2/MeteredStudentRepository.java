@@ -0,0 +1,105 @@
+package com.stepup.mock2;
+
+import com.stepup.util.MetricsRegistry;
+import com.stepup.util.Timer;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+public class MeteredStudentRepository implements StudentRepository {
+
+    private final StudentRepository delegate;
+    private final Timer rating;
+    private final Timer count;
+    private final Timer save;
+    private final Timer saveAll;
+    private final Timer delete;
+    private final Timer deleteAll;
+    private final Timer findAll;
+    private final Timer findById;
+    private final Timer findTopStudents;
+
+    public MeteredStudentRepository(StudentRepository delegate, MetricsRegistry registry) {
+        this.delegate = delegate;
+        this.rating = registry.timer("repository.rating");
+        this.count = registry.timer("repository.count");
+        this.save = registry.timer("repository.save");
+        this.saveAll = registry.timer("repository.save_all");
+        this.delete = registry.timer("repository.delete");
+        this.deleteAll = registry.timer("repository.delete_all");
+        this.findAll = registry.timer("repository.find_all");
+        this.findById = registry.timer("repository.find_by_id");
+        this.findTopStudents = registry.timer("repository.find_top_students");
+        FrontBinding.bind(delegate, this);
+    }
+
+    @Override
+    public int getRatingForGradeSum(int sum) {
+        return rating.record(() -> delegate.getRatingForGradeSum(sum));
+    }
+
+    @Override
+    public long count() {
+        return count.record(delegate::count);
+    }
+
+    @Override
+    public void delete(Student entity) {
+        delete.run(() -> delegate.delete(entity));
+    }
+
+    @Override
+    public boolean deleteById(long id) {
+        return delete.record(() -> delegate.deleteById(id));
+    }
+
+    @Override
+    public void deleteAll(Iterable<Student> entities) {
+        deleteAll.run(() -> delegate.deleteAll(entities));
+    }
+
+    @Override
+    public Iterable<Student> findAll() {
+        return findAll.record(delegate::findAll);
+    }
+
+    @Override
+    public Stream<Student> streamAll() {
+        return delegate.streamAll();
+    }
+
+    @Override
+    public Optional<Student> findById(long id) {
+        return findById.record(() -> delegate.findById(id));
+    }
+
+    @Override
+    public List<Student> findTopStudents() {
+        return findTopStudents.record(delegate::findTopStudents);
+    }
+
+    @Override
+    public Student save(Student entity) {
+        return save.record(() -> delegate.save(entity));
+    }
+
+    @Override
+    public Iterable<Student> saveAll(Iterable<Student> entities) {
+        return saveAll.record(() -> delegate.saveAll(entities));
+    }
+
+    @Override
+    public void addRatingChangeListener(Runnable listener) {
+        delegate.addRatingChangeListener(listener);
+    }
+
+    @Override
+    public void gradesChanged(Student entity) {
+        delegate.gradesChanged(entity);
+    }
+
+    void bindTo(StudentRepository front) {
+        FrontBinding.bind(delegate, front);
+    }
+}
@@ -0,0 +1,46 @@
+package com.stepup.mock2;
+
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+public class RatingTable {
+
+    private final StudentRepository source;
+    private final int maxSum;
+    private volatile int[] ratings;
+
+    public RatingTable(StudentRepository source, int maxSum) {
+        if (maxSum < 0) {
+            throw new IllegalArgumentException(maxSum + " is wrong max sum");
+        }
+        this.source = source;
+        this.maxSum = maxSum;
+        refresh();
+        source.addRatingChangeListener(this::refresh);
+    }
+
+    public void refresh() {
+        int[] fresh = new int[maxSum + 1];
+        for (int sum = 0; sum <= maxSum; sum++) {
+            fresh[sum] = source.getRatingForGradeSum(sum);
+        }
+        ratings = fresh;
+    }
+
+    public ScheduledFuture<?> scheduleRefresh(ScheduledExecutorService scheduler, long period, TimeUnit unit) {
+        return scheduler.scheduleAtFixedRate(this::refresh, period, period, unit);
+    }
+
+    public int ratingFor(int sum) {
+        int[] table = ratings;
+        if (sum >= 0 && sum < table.length) {
+            return table[sum];
+        }
+        return source.getRatingForGradeSum(sum);
+    }
+
+    public int getMaxSum() {
+        return maxSum;
+    }
+}
@@ -1,41 +1,66 @@
 package com.stepup.mock2;
 
+import com.stepup.util.GradeList;
+import com.stepup.util.GradeStats;
 import lombok.*;
-import java.util.ArrayList;
 import java.util.List;
+import java.util.function.IntConsumer;
 
-@ToString
-@EqualsAndHashCode
+@ToString(doNotUseGetters = true)
+@EqualsAndHashCode(doNotUseGetters = true)
 public class Student {
+    @Getter @Setter
+    @EqualsAndHashCode.Exclude
+    private Long id;
     @Getter @Setter
     private String name;
-    private List<Integer> grades = new ArrayList<>();
+    private final GradeList grades = new GradeList();
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
     private StudentRepository repo;
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private RatingTable ratingTable;
 
     public Student(String name) {
         this.name = name;
     }
 
     public List<Integer> getGrades() {
-        return grades;
+        return grades.view();
+    }
+
+    public GradeStats getStats() {
+        return grades.stats();
+    }
+
+    public void forEachGrade(IntConsumer action) {
+        grades.forEachInt(action);
     }
 
     public void addGrade(int grade) {
         if (grade < 2 || grade > 5) {
             throw new IllegalArgumentException(grade + " is wrong grade");
         }
-        grades.add(grade);
+        grades.append(grade);
+        if (repo != null) {
+            repo.gradesChanged(this);
+        }
     }
 
     public void setRepo(StudentRepository repo) {
         this.repo = repo;
     }
 
+    public void setRatingTable(RatingTable ratingTable) {
+        this.ratingTable = ratingTable;
+    }
+
     public int rating() {
-        return repo.getRatingForGradeSum(
-                grades.stream()
-                        .mapToInt(Integer::intValue)
-                        .sum()
-        );
+        int sum = (int) grades.sum();
+        if (ratingTable != null) {
+            return ratingTable.ratingFor(sum);
+        }
+        return repo.getRatingForGradeSum(sum);
     }
 }
@@ -0,0 +1,154 @@
+package com.stepup.mock2;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+public final class StudentArchive {
+
+    private static final byte[] MAGIC = {'S', 'T', 'U', 'A'};
+    private static final int VERSION = 1;
+    private static final int MIN_GRADE = 2;
+    private static final int MAX_GRADE = 5;
+
+    private StudentArchive() {
+    }
+
+    public static long export(StudentRepository repo, OutputStream stream) throws IOException {
+        BufferedOutputStream out = new BufferedOutputStream(stream, 1 << 16);
+        out.write(MAGIC);
+        out.write(VERSION);
+        long count = 0;
+        Iterator<Student> students = repo.streamAll().iterator();
+        while (students.hasNext()) {
+            writeStudent(out, students.next());
+            count++;
+        }
+        out.flush();
+        return count;
+    }
+
+    public static long importInto(InputStream stream, StudentRepository repo, int batchSize) throws IOException {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException(batchSize + " is wrong batch size");
+        }
+        BufferedInputStream in = new BufferedInputStream(stream, 1 << 16);
+        for (byte expected : MAGIC) {
+            if (in.read() != expected) {
+                throw new IOException("Not a student archive");
+            }
+        }
+        int version = in.read();
+        if (version != VERSION) {
+            throw new IOException("Unsupported student archive version " + version);
+        }
+        long count = 0;
+        List<Student> batch = new ArrayList<>(batchSize);
+        Student student;
+        while ((student = readStudent(in)) != null) {
+            batch.add(student);
+            count++;
+            if (batch.size() == batchSize) {
+                repo.saveAll(batch);
+                batch = new ArrayList<>(batchSize);
+            }
+        }
+        if (!batch.isEmpty()) {
+            repo.saveAll(batch);
+        }
+        return count;
+    }
+
+    private static void writeStudent(OutputStream out, Student student) throws IOException {
+        writeVarLong(out, student.getId() == null ? 0 : student.getId() + 1);
+        if (student.getName() == null) {
+            writeVarLong(out, 0);
+        } else {
+            byte[] name = student.getName().getBytes(StandardCharsets.UTF_8);
+            writeVarLong(out, name.length + 1L);
+            out.write(name);
+        }
+        List<Integer> grades = student.getGrades();
+        writeVarLong(out, grades.size());
+        int packed = 0;
+        for (int i = 0; i < grades.size(); i++) {
+            int grade = grades.get(i);
+            if (grade < MIN_GRADE || grade > MAX_GRADE) {
+                throw new IllegalArgumentException(grade + " is wrong grade");
+            }
+            packed |= (grade - MIN_GRADE) << ((i & 3) * 2);
+            if ((i & 3) == 3) {
+                out.write(packed);
+                packed = 0;
+            }
+        }
+        if ((grades.size() & 3) != 0) {
+            out.write(packed);
+        }
+    }
+
+    private static Student readStudent(InputStream in) throws IOException {
+        int first = in.read();
+        if (first < 0) {
+            return null;
+        }
+        long id = readVarLong(in, first);
+        long nameLength = readVarLong(in, in.read());
+        String name = null;
+        if (nameLength > 0) {
+            if (nameLength - 1 > Integer.MAX_VALUE) {
+                throw new IOException("Name is too long: " + (nameLength - 1));
+            }
+            name = new String(in.readNBytes((int) (nameLength - 1)), StandardCharsets.UTF_8);
+        }
+        Student student = new Student(name);
+        student.setId(id == 0 ? null : id - 1);
+        long grades = readVarLong(in, in.read());
+        int packed = 0;
+        for (long i = 0; i < grades; i++) {
+            if ((i & 3) == 0) {
+                packed = in.read();
+                if (packed < 0) {
+                    throw new EOFException("Truncated student archive");
+                }
+            }
+            student.addGrade(MIN_GRADE + (packed >> ((i & 3) * 2) & 3));
+        }
+        return student;
+    }
+
+    private static void writeVarLong(OutputStream out, long value) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            out.write((int) (value & 0x7F | 0x80));
+            value >>>= 7;
+        }
+        out.write((int) value);
+    }
+
+    private static long readVarLong(InputStream in, int first) throws IOException {
+        long value = 0;
+        int shift = 0;
+        int b = first;
+        while (true) {
+            if (b < 0) {
+                throw new EOFException("Truncated student archive");
+            }
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+            shift += 7;
+            if (shift > 63) {
+                throw new IOException("Malformed varint in student archive");
+            }
+            b = in.read();
+        }
+    }
+}
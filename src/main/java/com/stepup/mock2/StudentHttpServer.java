@@ -0,0 +1,186 @@
+package com.stepup.mock2;
+
+import com.stepup.util.MetricsRegistry;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+public class StudentHttpServer implements Closeable {
+
+    private static final String STUDENT_PATH = "/student";
+    private static final String TOP_STUDENT_PATH = "/topStudent";
+    private static final String METRICS_PATH = "/metrics";
+
+    private final StudentRepository repo;
+    private final MetricsRegistry registry;
+    private final HttpServer server;
+    private final ExecutorService executor;
+
+    public StudentHttpServer(StudentRepository repo, int port) throws IOException {
+        this(repo, port, null);
+    }
+
+    public StudentHttpServer(StudentRepository repo, int port, MetricsRegistry registry) throws IOException {
+        this.repo = repo;
+        this.registry = registry;
+        this.server = HttpServer.create(new InetSocketAddress(port), 0);
+        this.executor = Executors.newVirtualThreadPerTaskExecutor();
+        server.setExecutor(executor);
+        server.createContext(STUDENT_PATH, this::handleStudent);
+        server.createContext(TOP_STUDENT_PATH, this::handleTopStudent);
+        if (registry != null) {
+            server.createContext(METRICS_PATH, this::handleMetrics);
+        }
+    }
+
+    public static StudentHttpServer start(StudentRepository repo, int port) throws IOException {
+        return start(repo, port, null);
+    }
+
+    public static StudentHttpServer start(StudentRepository repo, int port, MetricsRegistry registry)
+            throws IOException {
+        StudentHttpServer server = new StudentHttpServer(repo, port, registry);
+        server.server.start();
+        return server;
+    }
+
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    private void handleStudent(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            String path = exchange.getRequestURI().getPath();
+            String method = exchange.getRequestMethod();
+            if (path.equals(STUDENT_PATH) || path.equals(STUDENT_PATH + "/")) {
+                if (method.equals("POST")) {
+                    postStudent(exchange);
+                } else if (method.equals("GET")) {
+                    sendJson(exchange, 200, StudentJson.toBytes(repo.streamAll()
+                            .sorted(Comparator.comparing(Student::getId))
+                            .toList()));
+                } else {
+                    sendError(exchange, 405, "Method Not Allowed");
+                }
+                return;
+            }
+            if (!path.startsWith(STUDENT_PATH + "/")) {
+                sendError(exchange, 404, "Not Found");
+                return;
+            }
+            Optional<Long> id = parseId(path.substring(STUDENT_PATH.length() + 1));
+            if (id.isEmpty()) {
+                sendError(exchange, 400, "Bad Request");
+                return;
+            }
+            switch (method) {
+                case "GET" -> {
+                    Optional<Student> student = repo.findById(id.get());
+                    if (student.isPresent()) {
+                        sendJson(exchange, 200, StudentJson.toBytes(student.get()));
+                    } else {
+                        sendError(exchange, 404, "Not Found");
+                    }
+                }
+                case "DELETE" -> {
+                    if (repo.deleteById(id.get())) {
+                        exchange.sendResponseHeaders(200, -1);
+                    } else {
+                        sendError(exchange, 404, "Not Found");
+                    }
+                }
+                default -> sendError(exchange, 405, "Method Not Allowed");
+            }
+        }
+    }
+
+    private void postStudent(HttpExchange exchange) throws IOException {
+        Student student;
+        try (InputStream body = exchange.getRequestBody()) {
+            student = StudentJson.read(body);
+        } catch (IllegalArgumentException e) {
+            sendError(exchange, 400, "Bad Request");
+            return;
+        }
+        if (student.getName() == null || student.getName().isBlank()) {
+            sendError(exchange, 400, "Bad Request");
+            return;
+        }
+        Student saved;
+        try {
+            saved = repo.save(student);
+        } catch (IllegalStateException e) {
+            sendError(exchange, 409, "Conflict");
+            return;
+        }
+        sendJson(exchange, 201, String.valueOf(saved.getId()).getBytes(StandardCharsets.US_ASCII));
+    }
+
+    private void handleTopStudent(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            if (!exchange.getRequestMethod().equals("GET")) {
+                sendError(exchange, 405, "Method Not Allowed");
+                return;
+            }
+            List<Student> top = repo.findTopStudents();
+            if (top.isEmpty()) {
+                exchange.sendResponseHeaders(200, -1);
+            } else {
+                sendJson(exchange, 200, StudentJson.toBytes(top));
+            }
+        }
+    }
+
+    private void handleMetrics(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            if (!exchange.getRequestMethod().equals("GET")) {
+                sendError(exchange, 405, "Method Not Allowed");
+                return;
+            }
+            byte[] bytes = registry.scrape().getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", "text/plain; charset=utf-8");
+            exchange.sendResponseHeaders(200, bytes.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(bytes);
+            }
+        }
+    }
+
+    private static Optional<Long> parseId(String value) {
+        try {
+            return Optional.of(Long.parseLong(value));
+        } catch (NumberFormatException e) {
+            return Optional.empty();
+        }
+    }
+
+    private static void sendError(HttpExchange exchange, int status, String error) throws IOException {
+        sendJson(exchange, status, ("{\"status\":" + status + ",\"error\":\"" + error + "\"}")
+                .getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static void sendJson(HttpExchange exchange, int status, byte[] bytes) throws IOException {
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+}
@@ -0,0 +1,481 @@
+package com.stepup.mock2;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+public final class StudentJson {
+
+    private static final byte[] ID = "{\"id\":".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] NAME = ",\"name\":".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] MARKS = ",\"marks\":[".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] NULL = "null".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] HEX = "0123456789abcdef".getBytes(StandardCharsets.US_ASCII);
+    private static final int CHUNK_SIZE = 8 * 1024;
+
+    private StudentJson() {
+    }
+
+    public static byte[] toBytes(Student student) {
+        Output out = new Output(32 + student.getGrades().size() * 2);
+        out.student(student);
+        return out.toBytes();
+    }
+
+    public static byte[] toBytes(Collection<Student> students) {
+        Output out = new Output(2 + students.size() * 48);
+        out.array(students);
+        return out.toBytes();
+    }
+
+    public static void write(Student student, OutputStream stream) throws IOException {
+        Output out = new Output(stream);
+        try {
+            out.student(student);
+            out.flush();
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    public static void write(Collection<Student> students, OutputStream stream) throws IOException {
+        Output out = new Output(stream);
+        try {
+            out.array(students);
+            out.flush();
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    public static Student read(byte[] json) {
+        return new Input(json, json.length).student();
+    }
+
+    public static Student read(InputStream stream) throws IOException {
+        try {
+            return new Input(stream).student();
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    public static Student read(String json) {
+        return read(json.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static final class Output {
+        private final OutputStream sink;
+        private byte[] buf;
+        private int len;
+
+        Output(int capacity) {
+            this.sink = null;
+            this.buf = new byte[capacity];
+        }
+
+        Output(OutputStream sink) {
+            this.sink = sink;
+            this.buf = new byte[CHUNK_SIZE];
+        }
+
+        void array(Collection<Student> students) {
+            put((byte) '[');
+            boolean first = true;
+            for (Student student : students) {
+                if (!first) {
+                    put((byte) ',');
+                }
+                student(student);
+                first = false;
+            }
+            put((byte) ']');
+        }
+
+        void student(Student student) {
+            put(ID);
+            if (student.getId() == null) {
+                put(NULL);
+            } else {
+                number(student.getId());
+            }
+            put(NAME);
+            string(student.getName());
+            put(MARKS);
+            List<Integer> grades = student.getGrades();
+            for (int i = 0; i < grades.size(); i++) {
+                if (i > 0) {
+                    put((byte) ',');
+                }
+                number(grades.get(i));
+            }
+            put((byte) ']');
+            put((byte) '}');
+        }
+
+        void string(String value) {
+            if (value == null) {
+                put(NULL);
+                return;
+            }
+            ensure(value.length() * 3 + 2);
+            buf[len++] = '"';
+            for (int i = 0; i < value.length(); i++) {
+                char c = value.charAt(i);
+                if (c == '"' || c == '\\') {
+                    ensure(2);
+                    buf[len++] = '\\';
+                    buf[len++] = (byte) c;
+                } else if (c < 0x20) {
+                    ensure(6);
+                    buf[len++] = '\\';
+                    buf[len++] = 'u';
+                    buf[len++] = '0';
+                    buf[len++] = '0';
+                    buf[len++] = HEX[c >> 4];
+                    buf[len++] = HEX[c & 0xF];
+                } else if (c < 0x80) {
+                    buf[len++] = (byte) c;
+                } else if (c < 0x800) {
+                    buf[len++] = (byte) (0xC0 | c >> 6);
+                    buf[len++] = (byte) (0x80 | c & 0x3F);
+                } else if (Character.isHighSurrogate(c) && i + 1 < value.length()
+                        && Character.isLowSurrogate(value.charAt(i + 1))) {
+                    int cp = Character.toCodePoint(c, value.charAt(++i));
+                    buf[len++] = (byte) (0xF0 | cp >> 18);
+                    buf[len++] = (byte) (0x80 | cp >> 12 & 0x3F);
+                    buf[len++] = (byte) (0x80 | cp >> 6 & 0x3F);
+                    buf[len++] = (byte) (0x80 | cp & 0x3F);
+                } else {
+                    buf[len++] = (byte) (0xE0 | c >> 12);
+                    buf[len++] = (byte) (0x80 | c >> 6 & 0x3F);
+                    buf[len++] = (byte) (0x80 | c & 0x3F);
+                }
+            }
+            ensure(1);
+            buf[len++] = '"';
+        }
+
+        void number(long value) {
+            if (value == Long.MIN_VALUE) {
+                put(Long.toString(value).getBytes(StandardCharsets.US_ASCII));
+                return;
+            }
+            ensure(20);
+            if (value < 0) {
+                buf[len++] = '-';
+                value = -value;
+            }
+            if (value < 10) {
+                buf[len++] = (byte) ('0' + value);
+                return;
+            }
+            int start = len;
+            while (value > 0) {
+                buf[len++] = (byte) ('0' + value % 10);
+                value /= 10;
+            }
+            for (int i = start, j = len - 1; i < j; i++, j--) {
+                byte tmp = buf[i];
+                buf[i] = buf[j];
+                buf[j] = tmp;
+            }
+        }
+
+        void put(byte b) {
+            ensure(1);
+            buf[len++] = b;
+        }
+
+        void put(byte[] bytes) {
+            ensure(bytes.length);
+            System.arraycopy(bytes, 0, buf, len, bytes.length);
+            len += bytes.length;
+        }
+
+        void ensure(int extra) {
+            if (len + extra <= buf.length) {
+                return;
+            }
+            if (sink != null) {
+                flush();
+                if (extra <= buf.length) {
+                    return;
+                }
+            }
+            buf = Arrays.copyOf(buf, Math.max(len + extra, buf.length * 2));
+        }
+
+        void flush() {
+            try {
+                sink.write(buf, 0, len);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            len = 0;
+        }
+
+        byte[] toBytes() {
+            return len == buf.length ? buf : Arrays.copyOf(buf, len);
+        }
+    }
+
+    private static final class Input {
+        private final InputStream in;
+        private final byte[] buf;
+        private int pos;
+        private int end;
+        private long offset;
+        private byte[] scratch = new byte[64];
+        private int scratchLength;
+
+        Input(byte[] json, int end) {
+            this.in = null;
+            this.buf = json;
+            this.end = end;
+        }
+
+        Input(InputStream in) {
+            this.in = in;
+            this.buf = new byte[CHUNK_SIZE];
+        }
+
+        Student student() {
+            Long id = null;
+            String name = null;
+            Student student = new Student(null);
+            expect('{');
+            if (!tryConsume('}')) {
+                do {
+                    Field field = field();
+                    expect(':');
+                    switch (field) {
+                        case ID -> id = tryNull() ? null : number();
+                        case NAME -> name = tryNull() ? null : string();
+                        case MARKS -> {
+                            if (!tryNull()) {
+                                marks(student);
+                            }
+                        }
+                    }
+                } while (tryConsume(','));
+                expect('}');
+            }
+            skipWhitespace();
+            if (peek() >= 0) {
+                throw error("trailing data");
+            }
+            student.setId(id);
+            student.setName(name);
+            return student;
+        }
+
+        private Field field() {
+            expect('"');
+            scratchLength = 0;
+            int b;
+            while ((b = next("unterminated field name")) != '"') {
+                append(b);
+            }
+            if (matches("id")) {
+                return Field.ID;
+            }
+            if (matches("name")) {
+                return Field.NAME;
+            }
+            if (matches("marks")) {
+                return Field.MARKS;
+            }
+            throw error("unknown field");
+        }
+
+        private boolean matches(String name) {
+            if (scratchLength != name.length()) {
+                return false;
+            }
+            for (int i = 0; i < scratchLength; i++) {
+                if (scratch[i] != name.charAt(i)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private void marks(Student student) {
+            expect('[');
+            if (!tryConsume(']')) {
+                do {
+                    long mark = number();
+                    if (mark < Integer.MIN_VALUE || mark > Integer.MAX_VALUE) {
+                        throw error("mark out of range");
+                    }
+                    student.addGrade((int) mark);
+                } while (tryConsume(','));
+                expect(']');
+            }
+        }
+
+        private long number() {
+            skipWhitespace();
+            boolean negative = peek() == '-';
+            if (negative) {
+                pos++;
+            }
+            // accumulate negatively so that Long.MIN_VALUE fits
+            long value = 0;
+            boolean digits = false;
+            int b;
+            while ((b = peek()) >= '0' && b <= '9') {
+                int digit = b - '0';
+                if (value < (Long.MIN_VALUE + digit) / 10) {
+                    throw error("number out of range");
+                }
+                value = value * 10 - digit;
+                pos++;
+                digits = true;
+            }
+            if (!digits) {
+                throw error("number expected");
+            }
+            if (negative) {
+                return value;
+            }
+            if (value == Long.MIN_VALUE) {
+                throw error("number out of range");
+            }
+            return -value;
+        }
+
+        private String string() {
+            expect('"');
+            scratchLength = 0;
+            StringBuilder value = null;
+            int b;
+            while ((b = next("unterminated string")) != '"') {
+                if (b == '\\') {
+                    if (value == null) {
+                        value = new StringBuilder();
+                    }
+                    drain(value);
+                    escape(value);
+                } else {
+                    append(b);
+                }
+            }
+            if (value == null) {
+                return new String(scratch, 0, scratchLength, StandardCharsets.UTF_8);
+            }
+            drain(value);
+            return value.toString();
+        }
+
+        private void escape(StringBuilder value) {
+            int escaped = next("bad escape");
+            switch (escaped) {
+                case '"', '\\', '/' -> value.append((char) escaped);
+                case 'n' -> value.append('\n');
+                case 'r' -> value.append('\r');
+                case 't' -> value.append('\t');
+                case 'b' -> value.append('\b');
+                case 'f' -> value.append('\f');
+                case 'u' -> {
+                    int c = 0;
+                    for (int i = 0; i < 4; i++) {
+                        int digit = Character.digit(next("bad unicode escape"), 16);
+                        if (digit < 0) {
+                            throw error("bad unicode escape");
+                        }
+                        c = c << 4 | digit;
+                    }
+                    value.append((char) c);
+                }
+                default -> throw error("bad escape");
+            }
+        }
+
+        private void append(int b) {
+            if (scratchLength == scratch.length) {
+                scratch = Arrays.copyOf(scratch, scratchLength * 2);
+            }
+            scratch[scratchLength++] = (byte) b;
+        }
+
+        private void drain(StringBuilder value) {
+            value.append(new String(scratch, 0, scratchLength, StandardCharsets.UTF_8));
+            scratchLength = 0;
+        }
+
+        private boolean tryNull() {
+            skipWhitespace();
+            if (peek() != 'n') {
+                return false;
+            }
+            pos++;
+            if (next("null expected") != 'u' || next("null expected") != 'l' || next("null expected") != 'l') {
+                throw error("null expected");
+            }
+            return true;
+        }
+
+        private boolean tryConsume(char c) {
+            skipWhitespace();
+            if (peek() == c) {
+                pos++;
+                return true;
+            }
+            return false;
+        }
+
+        private void expect(char c) {
+            if (!tryConsume(c)) {
+                throw error("'" + c + "' expected");
+            }
+        }
+
+        private void skipWhitespace() {
+            int b;
+            while ((b = peek()) == ' ' || b == '\n' || b == '\r' || b == '\t') {
+                pos++;
+            }
+        }
+
+        private int peek() {
+            return pos < end || fill() ? buf[pos] & 0xFF : -1;
+        }
+
+        private int next(String unexpectedEnd) {
+            if (pos == end && !fill()) {
+                throw error(unexpectedEnd);
+            }
+            return buf[pos++] & 0xFF;
+        }
+
+        private boolean fill() {
+            if (in == null) {
+                return false;
+            }
+            offset += end;
+            pos = 0;
+            end = 0;
+            try {
+                end = Math.max(in.read(buf, 0, buf.length), 0);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return end > 0;
+        }
+
+        private IllegalArgumentException error(String message) {
+            return new IllegalArgumentException("Malformed student JSON at " + (offset + pos) + ": " + message);
+        }
+    }
+
+    private enum Field {
+        ID, NAME, MARKS
+    }
+}
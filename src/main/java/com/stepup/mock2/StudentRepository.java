@@ -1,5 +1,14 @@
 package com.stepup.mock2;
 
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
 public interface StudentRepository {
     int getRatingForGradeSum(int sum);
     long count();
@@ -8,4 +17,69 @@ public interface StudentRepository {
     Iterable<Student> findAll();
     Student save(Student entity);
     Iterable<Student> saveAll(Iterable<Student> entities);
+
+    default void addRatingChangeListener(Runnable listener) {
+    }
+
+    default void gradesChanged(Student entity) {
+    }
+
+    default List<Student> findTopStudents() {
+        List<Student> top = new ArrayList<>();
+        streamAll().filter(student -> student.getStats().count() > 0).forEach(student -> {
+            int cmp = top.isEmpty() ? 1 : TopStudentIndex.compare(student.getStats(), top.get(0).getStats());
+            if (cmp > 0) {
+                top.clear();
+            }
+            if (cmp >= 0) {
+                top.add(student);
+            }
+        });
+        return top;
+    }
+
+    default Optional<Student> findById(long id) {
+        return StreamSupport.stream(findAll().spliterator(), false)
+                .filter(student -> Objects.equals(student.getId(), id))
+                .findFirst();
+    }
+
+    default boolean existsById(long id) {
+        return findById(id).isPresent();
+    }
+
+    default boolean deleteById(long id) {
+        Optional<Student> student = findById(id);
+        student.ifPresent(this::delete);
+        return student.isPresent();
+    }
+
+    default Stream<Student> streamAll() {
+        return StreamSupport.stream(findAll().spliterator(), false);
+    }
+
+    default Iterator<List<Student>> findAllPaged(int fetchSize) {
+        if (fetchSize <= 0) {
+            throw new IllegalArgumentException(fetchSize + " is wrong fetch size");
+        }
+        Iterator<Student> students = streamAll().iterator();
+        return new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                return students.hasNext();
+            }
+
+            @Override
+            public List<Student> next() {
+                if (!students.hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                List<Student> page = new ArrayList<>(fetchSize);
+                while (page.size() < fetchSize && students.hasNext()) {
+                    page.add(students.next());
+                }
+                return page;
+            }
+        };
+    }
 }
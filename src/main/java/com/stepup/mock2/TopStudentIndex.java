@@ -0,0 +1,101 @@
+package com.stepup.mock2;
+
+import com.stepup.util.GradeStats;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+public class TopStudentIndex {
+
+    private final ConcurrentSkipListSet<Entry> byScore = new ConcurrentSkipListSet<>();
+    private final Map<Long, Entry> entries = new ConcurrentHashMap<>();
+
+    public static int compare(GradeStats a, GradeStats b) {
+        return new Score(a.sum(), a.count()).compareTo(new Score(b.sum(), b.count()));
+    }
+
+    // Callers serialize update/remove per id (the repository calls them inside its map compute),
+    // so different students never contend on a shared lock.
+    public void update(Student student) {
+        long id = student.getId();
+        GradeStats stats = student.getStats();
+        Entry entry = new Entry(new Score(stats.sum(), stats.count()), id);
+        Entry previous = entries.get(id);
+        if (entry.equals(previous)) {
+            return;
+        }
+        if (previous != null) {
+            byScore.remove(previous);
+        }
+        if (stats.count() > 0) {
+            entries.put(id, entry);
+            byScore.add(entry);
+        } else {
+            entries.remove(id);
+        }
+    }
+
+    public void remove(long id) {
+        Entry previous = entries.remove(id);
+        if (previous != null) {
+            byScore.remove(previous);
+        }
+    }
+
+    public void clear() {
+        entries.clear();
+        byScore.clear();
+    }
+
+    public List<Long> topIds() {
+        List<Long> result = new ArrayList<>();
+        Iterator<Entry> descending = byScore.descendingIterator();
+        if (!descending.hasNext()) {
+            return result;
+        }
+        Entry top = descending.next();
+        result.add(top.id());
+        while (descending.hasNext()) {
+            Entry next = descending.next();
+            if (next.score().compareTo(top.score()) != 0) {
+                break;
+            }
+            result.add(next.id());
+        }
+        return result;
+    }
+
+    public List<Long> topIds(int k) {
+        List<Long> result = new ArrayList<>(Math.min(k, 16));
+        Iterator<Entry> descending = byScore.descendingIterator();
+        while (result.size() < k && descending.hasNext()) {
+            result.add(descending.next().id());
+        }
+        return result;
+    }
+
+    private record Entry(Score score, long id) implements Comparable<Entry> {
+        @Override
+        public int compareTo(Entry other) {
+            int byScore = score.compareTo(other.score);
+            // ids descend within a score so that a descending walk returns ties in ascending id order
+            return byScore != 0 ? byScore : Long.compare(other.id, id);
+        }
+    }
+
+    private record Score(long sum, int count) implements Comparable<Score> {
+        @Override
+        public int compareTo(Score other) {
+            long leftHigh = Math.multiplyHigh(sum, other.count);
+            long rightHigh = Math.multiplyHigh(other.sum, count);
+            int byAverage = leftHigh != rightHigh
+                    ? Long.compare(leftHigh, rightHigh)
+                    : Long.compareUnsigned(sum * other.count, other.sum * count);
+            return byAverage != 0 ? byAverage : Integer.compare(count, other.count);
+        }
+    }
+}
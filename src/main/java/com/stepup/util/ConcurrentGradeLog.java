@@ -0,0 +1,116 @@
+package com.stepup.util;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.IntConsumer;
+
+public class ConcurrentGradeLog {
+
+    private static final VarHandle SLOT = MethodHandles.arrayElementVarHandle(byte[].class);
+    private static final int FIRST_CHUNK_BITS = 4;
+    private static final int FIRST_CHUNK = 1 << FIRST_CHUNK_BITS;
+    private static final int MIN_GRADE = 2;
+    private static final int MAX_GRADE = 5;
+
+    private final AtomicInteger reserved = new AtomicInteger();
+    private final AtomicReferenceArray<byte[]> chunks = new AtomicReferenceArray<>(Integer.SIZE - FIRST_CHUNK_BITS);
+    private final LongAdder[] counts = new LongAdder[MAX_GRADE - MIN_GRADE + 1];
+
+    public ConcurrentGradeLog() {
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] = new LongAdder();
+        }
+    }
+
+    public void append(int grade) {
+        if (grade < MIN_GRADE || grade > MAX_GRADE) {
+            throw new IllegalArgumentException(grade + " is wrong grade");
+        }
+        int index = reserved.getAndIncrement();
+        if (index < 0) {
+            reserved.decrementAndGet();
+            throw new IllegalStateException("Grade log is full");
+        }
+        int chunk = chunkOf(index);
+        SLOT.setRelease(chunk(chunk), index - chunkStart(chunk), (byte) grade);
+        counts[grade - MIN_GRADE].increment();
+    }
+
+    public int size() {
+        long size = 0;
+        for (LongAdder count : counts) {
+            size += count.sum();
+        }
+        return (int) size;
+    }
+
+    public GradeStats stats() {
+        int count = 0;
+        long sum = 0;
+        int min = 0;
+        int max = 0;
+        for (int i = 0; i < counts.length; i++) {
+            long n = counts[i].sum();
+            if (n > 0) {
+                int grade = MIN_GRADE + i;
+                count += (int) n;
+                sum += n * grade;
+                min = min == 0 ? grade : min;
+                max = grade;
+            }
+        }
+        return count == 0 ? GradeStats.EMPTY : new GradeStats(count, sum, min, max);
+    }
+
+    public void forEachInt(IntConsumer action) {
+        int limit = reserved.get();
+        for (int chunk = 0; chunk < chunks.length() && chunkStart(chunk) < limit; chunk++) {
+            byte[] slots = chunks.get(chunk);
+            if (slots == null) {
+                continue;
+            }
+            int count = Math.min(slots.length, limit - chunkStart(chunk));
+            for (int i = 0; i < count; i++) {
+                byte grade = (byte) SLOT.getAcquire(slots, i);
+                if (grade != 0) {
+                    action.accept(grade);
+                }
+            }
+        }
+    }
+
+    public int[] toIntArray() {
+        int[] result = new int[Math.max(reserved.get(), 0)];
+        int[] size = new int[1];
+        forEachInt(grade -> {
+            if (size[0] < result.length) {
+                result[size[0]++] = grade;
+            }
+        });
+        return Arrays.copyOf(result, size[0]);
+    }
+
+    private byte[] chunk(int chunk) {
+        byte[] slots = chunks.get(chunk);
+        if (slots == null) {
+            byte[] fresh = new byte[(int) Math.min((long) FIRST_CHUNK << chunk, (1L << 31) - chunkStart(chunk))];
+            slots = chunks.compareAndExchange(chunk, null, fresh);
+            if (slots == null) {
+                slots = fresh;
+            }
+        }
+        return slots;
+    }
+
+    private static int chunkOf(int index) {
+        return Integer.SIZE - 1 - Integer.numberOfLeadingZeros((index >>> FIRST_CHUNK_BITS) + 1);
+    }
+
+    private static int chunkStart(int chunk) {
+        return (int) (((1L << chunk) - 1) << FIRST_CHUNK_BITS);
+    }
+}
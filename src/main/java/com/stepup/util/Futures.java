@@ -0,0 +1,18 @@
+package com.stepup.util;
+
+import java.util.concurrent.CompletableFuture;
+
+public final class Futures {
+
+    private Futures() {
+    }
+
+    public static <T> CompletableFuture<T> cancelling(CompletableFuture<T> derived, CompletableFuture<?> source) {
+        derived.whenComplete((value, error) -> {
+            if (derived.isCancelled()) {
+                source.cancel(true);
+            }
+        });
+        return derived;
+    }
+}
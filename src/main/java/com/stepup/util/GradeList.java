@@ -0,0 +1,253 @@
+package com.stepup.util;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
+
+public class GradeList extends AbstractList<Integer> implements RandomAccess {
+
+    private static final byte[] EMPTY = new byte[0];
+    private static final int MIN_CAPACITY = 8;
+
+    private byte[] data = EMPTY;
+    private int size;
+    private long sum;
+    private int min;
+    private int max;
+    private boolean extremesStale;
+    private List<Integer> view;
+    private int hash = 1;
+    private boolean hashStale;
+
+    public GradeList() {
+    }
+
+    public GradeList(Collection<Integer> grades) {
+        ensureCapacity(grades.size());
+        for (Integer grade : grades) {
+            append(grade);
+        }
+    }
+
+    public void append(int grade) {
+        byte value = toByte(grade);
+        ensureCapacity(size + 1);
+        data[size++] = value;
+        added(value);
+        if (!hashStale) {
+            hash = 31 * hash + value;
+        }
+        modCount++;
+    }
+
+    public int getInt(int index) {
+        checkIndex(index);
+        return data[index];
+    }
+
+    @Override
+    public Integer get(int index) {
+        return getInt(index);
+    }
+
+    @Override
+    public Integer set(int index, Integer element) {
+        checkIndex(index);
+        int old = data[index];
+        byte value = toByte(element);
+        data[index] = value;
+        removed(old);
+        added(value);
+        hashStale = true;
+        return old;
+    }
+
+    @Override
+    public void add(int index, Integer element) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        byte value = toByte(element);
+        ensureCapacity(size + 1);
+        System.arraycopy(data, index, data, index + 1, size - index);
+        data[index] = value;
+        size++;
+        added(value);
+        hashStale = true;
+        modCount++;
+    }
+
+    @Override
+    public Integer remove(int index) {
+        checkIndex(index);
+        int old = data[index];
+        System.arraycopy(data, index + 1, data, index, size - index - 1);
+        size--;
+        removed(old);
+        hashStale = true;
+        modCount++;
+        return old;
+    }
+
+    @Override
+    public void clear() {
+        size = 0;
+        sum = 0;
+        extremesStale = false;
+        hash = 1;
+        hashStale = false;
+        modCount++;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public int hashCode() {
+        if (hashStale) {
+            int h = 1;
+            for (int i = 0; i < size; i++) {
+                h = 31 * h + data[i];
+            }
+            hash = h;
+            hashStale = false;
+        }
+        return hash;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o instanceof GradeList other) {
+            return size == other.size
+                    && hashCode() == other.hashCode()
+                    && Arrays.equals(data, 0, size, other.data, 0, other.size);
+        }
+        return super.equals(o);
+    }
+
+    public long sum() {
+        return sum;
+    }
+
+    public int min() {
+        refreshExtremes();
+        return size == 0 ? 0 : min;
+    }
+
+    public int max() {
+        refreshExtremes();
+        return size == 0 ? 0 : max;
+    }
+
+    public double average() {
+        return size == 0 ? 0.0 : (double) sum / size;
+    }
+
+    public GradeStats stats() {
+        return size == 0 ? GradeStats.EMPTY : new GradeStats(size, sum, min(), max());
+    }
+
+    public GradeList copy() {
+        GradeList copy = new GradeList();
+        copy.data = Arrays.copyOf(data, size);
+        copy.size = size;
+        copy.sum = sum;
+        copy.min = min;
+        copy.max = max;
+        copy.extremesStale = extremesStale;
+        copy.hash = hash;
+        copy.hashStale = hashStale;
+        return copy;
+    }
+
+    public List<Integer> view() {
+        if (view == null) {
+            view = Collections.unmodifiableList(this);
+        }
+        return view;
+    }
+
+    public IntStream intStream() {
+        return IntStream.range(0, size).map(i -> data[i]);
+    }
+
+    public void forEachInt(IntConsumer action) {
+        byte[] snapshot = data;
+        int count = size;
+        for (int i = 0; i < count; i++) {
+            action.accept(snapshot[i]);
+        }
+    }
+
+    public int[] toIntArray() {
+        int[] result = new int[size];
+        for (int i = 0; i < size; i++) {
+            result[i] = data[i];
+        }
+        return result;
+    }
+
+    private void added(int value) {
+        sum += value;
+        if (size == 1) {
+            min = value;
+            max = value;
+            extremesStale = false;
+        } else if (!extremesStale) {
+            min = Math.min(min, value);
+            max = Math.max(max, value);
+        }
+    }
+
+    private void removed(int value) {
+        sum -= value;
+        if (value == min || value == max) {
+            extremesStale = true;
+        }
+    }
+
+    private void refreshExtremes() {
+        if (!extremesStale) {
+            return;
+        }
+        int newMin = Integer.MAX_VALUE;
+        int newMax = Integer.MIN_VALUE;
+        for (int i = 0; i < size; i++) {
+            newMin = Math.min(newMin, data[i]);
+            newMax = Math.max(newMax, data[i]);
+        }
+        min = newMin;
+        max = newMax;
+        extremesStale = false;
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity > data.length) {
+            int newCapacity = Math.max(MIN_CAPACITY, Math.max(capacity, data.length + (data.length >> 1)));
+            data = Arrays.copyOf(data, newCapacity);
+        }
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+    }
+
+    private static byte toByte(int grade) {
+        if (grade < Byte.MIN_VALUE || grade > Byte.MAX_VALUE) {
+            throw new IllegalArgumentException(grade + " is wrong grade");
+        }
+        return (byte) grade;
+    }
+}
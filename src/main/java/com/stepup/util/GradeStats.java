@@ -0,0 +1,10 @@
+package com.stepup.util;
+
+public record GradeStats(int count, long sum, int min, int max) {
+
+    public static final GradeStats EMPTY = new GradeStats(0, 0, 0, 0);
+
+    public double average() {
+        return count == 0 ? 0.0 : (double) sum / count;
+    }
+}
@@ -0,0 +1,39 @@
+package com.stepup.util;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+public class MetricsRegistry {
+
+    private final Map<String, Timer> timers = new ConcurrentSkipListMap<>();
+
+    private static final class Holder {
+        private static final MetricsRegistry GLOBAL = new MetricsRegistry();
+    }
+
+    public static MetricsRegistry global() {
+        return Holder.GLOBAL;
+    }
+
+    public Timer timer(String name) {
+        return timers.computeIfAbsent(name, Timer::new);
+    }
+
+    public Collection<Timer> getTimers() {
+        return Collections.unmodifiableCollection(timers.values());
+    }
+
+    public String scrape() {
+        StringBuilder text = new StringBuilder();
+        for (Timer timer : timers.values()) {
+            text.append(timer).append('\n');
+        }
+        return text.toString();
+    }
+
+    public void reset() {
+        timers.values().forEach(Timer::reset);
+    }
+}
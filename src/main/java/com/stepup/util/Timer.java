@@ -0,0 +1,107 @@
+package com.stepup.util;
+
+import lombok.Getter;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+public class Timer {
+
+    private static final long MAX_TRACKABLE_NANOS = TimeUnit.MINUTES.toNanos(10);
+
+    @FunctionalInterface
+    public interface Call<T, E extends Exception> {
+        T call() throws E;
+    }
+
+    @FunctionalInterface
+    public interface Action<E extends Exception> {
+        void run() throws E;
+    }
+
+    @Getter
+    private final String name;
+    private final LongAdder count = new LongAdder();
+    private final LongAdder errors = new LongAdder();
+    private final ConcurrentHistogram latencies = new ConcurrentHistogram(MAX_TRACKABLE_NANOS, 3);
+
+    public Timer(String name) {
+        this.name = name;
+    }
+
+    public <T, E extends Exception> T record(Call<T, E> call) throws E {
+        long start = System.nanoTime();
+        boolean failed = true;
+        try {
+            T result = call.call();
+            failed = false;
+            return result;
+        } finally {
+            record(System.nanoTime() - start, failed);
+        }
+    }
+
+    public <E extends Exception> void run(Action<E> action) throws E {
+        long start = System.nanoTime();
+        boolean failed = true;
+        try {
+            action.run();
+            failed = false;
+        } finally {
+            record(System.nanoTime() - start, failed);
+        }
+    }
+
+    public void record(long nanos, boolean failed) {
+        count.increment();
+        if (failed) {
+            errors.increment();
+        }
+        latencies.recordValue(Math.min(Math.max(nanos, 0), MAX_TRACKABLE_NANOS));
+    }
+
+    public long getCount() {
+        return count.sum();
+    }
+
+    public long getErrors() {
+        return errors.sum();
+    }
+
+    public double getErrorRate() {
+        long total = count.sum();
+        return total == 0 ? 0.0 : (double) errors.sum() / total;
+    }
+
+    public long percentileNanos(double percentile) {
+        return latencies.getValueAtPercentile(percentile);
+    }
+
+    public Histogram snapshot() {
+        return latencies.copy();
+    }
+
+    public void reset() {
+        count.reset();
+        errors.reset();
+        latencies.reset();
+    }
+
+    @Override
+    public String toString() {
+        Histogram histogram = snapshot();
+        return String.format(Locale.ROOT,
+                "%s count=%d errors=%d error_rate=%.4f p50_us=%.1f p95_us=%.1f p99_us=%.1f p999_us=%.1f max_us=%.1f",
+                name, getCount(), getErrors(), getErrorRate(),
+                micros(histogram.getValueAtPercentile(50)), micros(histogram.getValueAtPercentile(95)),
+                micros(histogram.getValueAtPercentile(99)), micros(histogram.getValueAtPercentile(99.9)),
+                micros(histogram.getMaxValue()));
+    }
+
+    private static double micros(long nanos) {
+        return nanos / 1_000.0;
+    }
+}
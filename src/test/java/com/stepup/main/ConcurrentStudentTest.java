@@ -0,0 +1,106 @@
+package com.stepup.main;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConcurrentStudentTest {
+
+    @DisplayName("Проверка добавления оценок")
+    @Test
+    void testAddGrade() {
+        ConcurrentStudent student = new ConcurrentStudent("Test");
+        student.addGrade(4);
+        student.addGrade(5);
+
+        assertEquals(List.of(4, 5), student.getGrades());
+        assertEquals(9, student.getStats().sum());
+        assertEquals("ConcurrentStudent{name=Test, marks=[4, 5]}", student.toString());
+        assertThrows(IllegalArgumentException.class, () -> student.addGrade(6));
+        assertThrows(UnsupportedOperationException.class, () -> student.getGrades().add(3));
+    }
+
+    @DisplayName("Проверка сравнения студентов по имени и оценкам")
+    @Test
+    void testEquality() {
+        ConcurrentStudent first = new ConcurrentStudent("Test");
+        ConcurrentStudent second = new ConcurrentStudent("Test");
+        first.addGrade(4);
+        second.addGrade(4);
+
+        assertEquals(first, second);
+        assertEquals(first.hashCode(), second.hashCode());
+
+        second.addGrade(5);
+        assertNotEquals(first, second);
+        first.addGrade(5);
+        assertEquals(first, second);
+        first.setName("Other");
+        assertNotEquals(first, second);
+        assertNotEquals(first, new Student("Other"));
+    }
+
+    @DisplayName("Проверка отсутствия потерянных оценок при параллельной записи")
+    @Test
+    void testConcurrentAppends() throws Exception {
+        int writers = 8;
+        int perWriter = 100_000;
+        ConcurrentStudent student = new ConcurrentStudent("Test");
+        ExecutorService executor = Executors.newFixedThreadPool(writers + 1);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicBoolean done = new AtomicBoolean();
+        try {
+            Future<?> reader = executor.submit(() -> {
+                start.await();
+                while (!done.get()) {
+                    int[] count = new int[1];
+                    student.forEachGrade(grade -> {
+                        assertTrue(grade >= 2 && grade <= 5);
+                        count[0]++;
+                    });
+                    assertTrue(count[0] <= writers * perWriter);
+                }
+                return null;
+            });
+            List<Future<?>> futures = new ArrayList<>();
+            for (int w = 0; w < writers; w++) {
+                int grade = w % 4 + 2;
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < perWriter; i++) {
+                        student.addGrade(grade);
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+            done.set(true);
+            reader.get();
+        } finally {
+            executor.shutdownNow();
+        }
+
+        List<Integer> grades = student.getGrades();
+        assertEquals(writers * perWriter, grades.size());
+        assertEquals(writers * perWriter, student.getStats().count());
+        for (int grade = 2; grade <= 5; grade++) {
+            int expected = grade;
+            assertEquals(2L * perWriter, grades.stream().filter(g -> g == expected).count());
+        }
+        assertEquals(2L * perWriter * (2 + 3 + 4 + 5), student.getStats().sum());
+        assertEquals(2, student.getStats().min());
+        assertEquals(5, student.getStats().max());
+    }
+}
@@ -4,7 +4,9 @@ import org.junit.jupiter.api.*;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
 
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -49,6 +51,37 @@ class StudentTest {
         assertTrue(student.getGrades().isEmpty()); // Список должен остаться неизменным
     }
 
+    @DisplayName("Проверка статистики по оценкам")
+    @Test
+    void testStats() {
+        student.addGrade(3);
+        student.addGrade(5);
+        student.addGrade(4);
+
+        assertEquals(3, student.getStats().count());
+        assertEquals(12, student.getStats().sum());
+        assertEquals(3, student.getStats().min());
+        assertEquals(5, student.getStats().max());
+        assertEquals(4.0, student.getStats().average());
+    }
+
+    @DisplayName("Проверка представления оценок без копирования")
+    @Test
+    void testGradesView() {
+        List<Integer> view = student.getGradesView();
+        student.addGrade(4);
+        student.addGrade(5);
+
+        assertEquals(List.of(4, 5), view);
+        assertSame(view, student.getGradesView());
+        assertThrows(UnsupportedOperationException.class, () -> view.add(3));
+        assertEquals(9, student.gradeStream().sum());
+
+        int[] sum = new int[1];
+        student.forEachGrade(grade -> sum[0] += grade);
+        assertEquals(9, sum[0]);
+    }
+
     @DisplayName("Проверка equals")
     @Test
     void testEquals() {
@@ -65,6 +98,22 @@ class StudentTest {
         assertEquals(student.hashCode(), other.hashCode());
     }
 
+    @DisplayName("Проверка поиска в HashSet после добавления оценок")
+    @Test
+    void testHashSetLookup() {
+        Set<Student> students = new HashSet<>();
+        Student other = new Student("Test");
+        for (int i = 0; i < 1_000; i++) {
+            student.addGrade(i % 4 + 2);
+            other.addGrade(i % 4 + 2);
+        }
+        students.add(student);
+
+        assertTrue(students.contains(other));
+        other.addGrade(5);
+        assertFalse(students.contains(other));
+    }
+
     @DisplayName("Проверка toString")
     @Test
     void testToString() {
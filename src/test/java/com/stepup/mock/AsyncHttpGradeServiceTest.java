@@ -0,0 +1,114 @@
+package com.stepup.mock;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+import com.github.tomakehurst.wiremock.client.WireMock;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.net.http.HttpTimeoutException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMockConfig;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class AsyncHttpGradeServiceTest {
+
+    private WireMockServer wireMockServer;
+    private ExecutorService executor;
+    private AsyncHttpGradeService service;
+
+    @BeforeEach
+    void setUp() {
+        wireMockServer = new WireMockServer(wireMockConfig().dynamicPort().containerThreads(64));
+        wireMockServer.start();
+        WireMock.configureFor("localhost", wireMockServer.port());
+        executor = Executors.newFixedThreadPool(2);
+        service = new AsyncHttpGradeService(HttpClientConfig.builder()
+                .baseUrl(wireMockServer.baseUrl())
+                .socketTimeoutMs(1_000)
+                .build(), executor);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+        wireMockServer.stop();
+    }
+
+    @DisplayName("Проверка параллельного добавления оценок с маленьким пулом потоков")
+    @Test
+    void testConcurrentAddGradeAsync() {
+        stubFor(get(urlPathEqualTo("/checkGrade"))
+                .willReturn(aResponse().withStatus(200).withBody("true").withFixedDelay(200)));
+        stubFor(get(urlPathEqualTo("/educ"))
+                .willReturn(aResponse().withStatus(200).withBody("8")));
+
+        List<Student> students = new ArrayList<>();
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            Student student = new Student("Студент " + i);
+            student.setAsyncGradeService(service);
+            students.add(student);
+            futures.add(student.addGradeAsync(5));
+        }
+
+        long start = System.nanoTime();
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        assertTrue(elapsedMs < 50 * 200, "Запросы должны выполняться параллельно, прошло " + elapsedMs + " мс");
+        for (Student student : students) {
+            assertEquals(List.of(5), student.getGrades());
+            assertEquals(8, student.ratingAsync().join());
+        }
+    }
+
+    @DisplayName("Проверка отклонения неверной оценки")
+    @Test
+    void testInvalidGradeAsync() {
+        stubFor(get(urlPathEqualTo("/checkGrade"))
+                .willReturn(aResponse().withStatus(200).withBody("false")));
+        Student student = new Student("Тест");
+        student.setAsyncGradeService(service);
+
+        ExecutionException e = assertThrows(ExecutionException.class, () -> student.addGradeAsync(7).get());
+        assertInstanceOf(IllegalArgumentException.class, e.getCause());
+        assertTrue(student.getGrades().isEmpty());
+    }
+
+    @DisplayName("Проверка таймаута запроса")
+    @Test
+    void testTimeout() {
+        stubFor(get(urlPathEqualTo("/educ"))
+                .willReturn(aResponse().withStatus(200).withBody("1").withFixedDelay(3_000)));
+
+        ExecutionException e = assertThrows(ExecutionException.class,
+                () -> service.getRatingForGradeSumAsync(10).get(5, TimeUnit.SECONDS));
+        assertInstanceOf(HttpTimeoutException.class, e.getCause());
+    }
+
+    @DisplayName("Проверка отмены запроса")
+    @Test
+    void testCancellation() throws InterruptedException {
+        stubFor(get(urlPathEqualTo("/checkGrade"))
+                .willReturn(aResponse().withStatus(200).withBody("true").withFixedDelay(500)));
+        Student student = new Student("Тест");
+        student.setAsyncGradeService(service);
+
+        CompletableFuture<Void> future = student.addGradeAsync(5);
+        assertTrue(future.cancel(true));
+        Thread.sleep(800);
+
+        assertTrue(future.isCancelled());
+        assertTrue(student.getGrades().isEmpty());
+    }
+}
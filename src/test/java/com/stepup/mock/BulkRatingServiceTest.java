@@ -0,0 +1,97 @@
+package com.stepup.mock;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMockConfig;
+import static org.junit.jupiter.api.Assertions.*;
+
+class BulkRatingServiceTest {
+
+    @DisplayName("Проверка ограничения числа одновременных запросов")
+    @Test
+    void testConcurrencyLimit() throws Exception {
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxInFlight = new AtomicInteger();
+        GradeService slowService = new GradeService() {
+            @Override
+            public boolean checkGrade(int grade) {
+                return true;
+            }
+
+            @Override
+            public int getRatingForGradeSum(int sum) throws IOException {
+                maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+                try {
+                    Thread.sleep(5);
+                } catch (InterruptedException e) {
+                    throw new IOException(e);
+                } finally {
+                    inFlight.decrementAndGet();
+                }
+                return sum;
+            }
+        };
+
+        List<Student> students = new ArrayList<>();
+        for (int i = 0; i < 2_000; i++) {
+            Student student = new Student("Студент " + i);
+            student.setGradeService(slowService);
+            student.addGrade(i % 4 + 2);
+            students.add(student);
+        }
+
+        BulkRatingResult result = new BulkRatingService(16).rateAll(students);
+
+        assertTrue(maxInFlight.get() <= 16);
+        assertEquals(2_000, result.succeeded());
+        for (int i = 0; i < students.size(); i++) {
+            assertEquals(i % 4 + 2, result.ratings()[i]);
+        }
+    }
+
+    @DisplayName("Проверка массового расчета рейтинга через WireMock")
+    @Test
+    void testRateAllOverHttp() throws Exception {
+        WireMockServer server = new WireMockServer(wireMockConfig().dynamicPort().containerThreads(64));
+        server.start();
+        server.stubFor(get(urlPathEqualTo("/checkGrade"))
+                .willReturn(aResponse().withStatus(200).withBody("true")));
+        server.stubFor(get(urlPathEqualTo("/educ"))
+                .willReturn(aResponse().withStatus(200).withBody("6").withFixedDelay(50)));
+        server.stubFor(get(urlPathEqualTo("/educ"))
+                .withQueryParam("sum", equalTo("0"))
+                .willReturn(aResponse().withStatus(500)));
+        try (HttpGradeService service = new HttpGradeService(HttpClientConfig.builder()
+                .baseUrl(server.baseUrl())
+                .maxPerRoute(32)
+                .build())) {
+            List<Student> students = new ArrayList<>();
+            for (int i = 0; i < 300; i++) {
+                Student student = new Student("Студент " + i);
+                student.setGradeService(service);
+                if (i > 0) {
+                    student.addGrade(5);
+                }
+                students.add(student);
+            }
+
+            BulkRatingResult result = new BulkRatingService(32).rateAll(students);
+            System.out.println(result);
+
+            assertEquals(1, result.failures().size());
+            assertTrue(result.failures().containsKey(0));
+            assertEquals(6, result.ratings()[1]);
+            assertTrue(result.wallTime().toMillis() < 300 * 50);
+        } finally {
+            server.stop();
+        }
+    }
+}
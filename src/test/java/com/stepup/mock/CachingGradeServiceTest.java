@@ -0,0 +1,85 @@
+package com.stepup.mock;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class CachingGradeServiceTest {
+
+    private GradeService remote;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        remote = mock(GradeService.class);
+        when(remote.checkGrade(anyInt())).thenAnswer(inv -> {
+            int grade = inv.getArgument(0);
+            return grade >= 2 && grade <= 5;
+        });
+        when(remote.getRatingForGradeSum(anyInt())).thenAnswer(inv -> (int) inv.getArgument(0) / 10);
+    }
+
+    @DisplayName("Проверка повторного использования ответов /checkGrade и /educ")
+    @Test
+    void testCachesPositiveAnswers() throws IOException {
+        CachingGradeService service = new CachingGradeService(remote, 100, 1, TimeUnit.MINUTES, false);
+
+        for (int i = 0; i < 5; i++) {
+            assertTrue(service.checkGrade(5));
+            assertEquals(4, service.getRatingForGradeSum(45));
+        }
+
+        verify(remote, times(1)).checkGrade(5);
+        verify(remote, times(1)).getRatingForGradeSum(45);
+        assertEquals(4, service.getGradeCache().getHits());
+        assertEquals(1, service.getGradeCache().getMisses());
+    }
+
+    @DisplayName("Проверка отрицательного кеширования")
+    @Test
+    void testNegativeCaching() throws IOException {
+        CachingGradeService withoutNegative = new CachingGradeService(remote, 100, 1, TimeUnit.MINUTES, false);
+        withoutNegative.checkGrade(7);
+        withoutNegative.checkGrade(7);
+        verify(remote, times(2)).checkGrade(7);
+
+        CachingGradeService withNegative = new CachingGradeService(remote, 100, 1, TimeUnit.MINUTES, true);
+        withNegative.checkGrade(8);
+        withNegative.checkGrade(8);
+        verify(remote, times(1)).checkGrade(8);
+    }
+
+    @DisplayName("Проверка пакетной валидации только для отсутствующих в кеше оценок")
+    @Test
+    void testBatchForwardsOnlyMisses() throws IOException {
+        when(remote.checkGrades(any())).thenReturn(new boolean[]{true});
+        CachingGradeService service = new CachingGradeService(remote, 100, 1, TimeUnit.MINUTES, false);
+        service.checkGrade(5);
+
+        assertArrayEquals(new boolean[]{true, true, true}, service.checkGrades(new int[]{5, 4, 5}));
+        verify(remote).checkGrades(new int[]{4});
+    }
+
+    @DisplayName("Проверка отправки только уникальных отсутствующих в кеше оценок")
+    @Test
+    void testBatchDeduplicatesMisses() throws IOException {
+        when(remote.checkGrades(any())).thenReturn(new boolean[]{true, false, true});
+        CachingGradeService service = new CachingGradeService(remote, 100, 1, TimeUnit.MINUTES, false);
+        int[] grades = new int[1_000];
+        for (int i = 0; i < grades.length; i++) {
+            grades[i] = new int[]{4, 7, 3}[i % 3];
+        }
+
+        boolean[] result = service.checkGrades(grades);
+
+        verify(remote).checkGrades(new int[]{4, 7, 3});
+        for (int i = 0; i < grades.length; i++) {
+            assertEquals(grades[i] != 7, result[i]);
+        }
+    }
+}
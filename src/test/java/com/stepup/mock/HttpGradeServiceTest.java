@@ -0,0 +1,153 @@
+package com.stepup.mock;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+import com.github.tomakehurst.wiremock.client.WireMock;
+import org.apache.http.client.methods.CloseableHttpResponse;
+import org.apache.http.client.methods.HttpGet;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.HttpClients;
+import org.apache.http.util.EntityUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMockConfig;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class HttpGradeServiceTest {
+
+    private static final int REQUESTS = 200;
+
+    private WireMockServer wireMockServer;
+    private HttpGradeService service;
+
+    @BeforeEach
+    void setUp() {
+        wireMockServer = new WireMockServer(wireMockConfig().dynamicPort());
+        wireMockServer.start();
+        WireMock.configureFor("localhost", wireMockServer.port());
+        stubFor(get(urlPathEqualTo("/checkGrade"))
+                .willReturn(aResponse().withStatus(200).withBody("true")));
+        stubFor(get(urlPathEqualTo("/educ"))
+                .willReturn(aResponse().withStatus(200).withBody("7")));
+        service = new HttpGradeService(HttpClientConfig.builder()
+                .baseUrl(wireMockServer.baseUrl())
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        service.close();
+        wireMockServer.stop();
+    }
+
+    @DisplayName("Проверка оценки и рейтинга через пул соединений")
+    @Test
+    void testCheckGradeAndRating() throws IOException {
+        assertTrue(service.checkGrade(5));
+        assertEquals(7, service.getRatingForGradeSum(15));
+        verify(getRequestedFor(urlPathEqualTo("/checkGrade")).withQueryParam("grade", equalTo("5")));
+        verify(getRequestedFor(urlPathEqualTo("/educ")).withQueryParam("sum", equalTo("15")));
+    }
+
+    @DisplayName("Проверка возврата соединений в пул после чтения ответа")
+    @Test
+    void testConnectionsReleased() throws IOException {
+        for (int i = 0; i < 50; i++) {
+            service.checkGrade(4);
+        }
+        assertEquals(0, service.getLeasedConnections());
+    }
+
+    @DisplayName("Проверка ошибки при неуспешном статусе ответа")
+    @Test
+    void testErrorStatus() {
+        stubFor(get(urlPathEqualTo("/educ"))
+                .willReturn(aResponse().withStatus(500).withBody("boom")));
+        assertThrows(IOException.class, () -> service.getRatingForGradeSum(1));
+        assertEquals(0, service.getLeasedConnections());
+    }
+
+    @DisplayName("Проверка пакетной валидации оценок с разбиением на пачки")
+    @Test
+    void testCheckGradesBatch() throws IOException {
+        stubFor(get(urlPathEqualTo("/checkGrades"))
+                .withQueryParam("grades", equalTo("2,3,6"))
+                .willReturn(aResponse().withStatus(200).withBody("true,true,false")));
+        stubFor(get(urlPathEqualTo("/checkGrades"))
+                .withQueryParam("grades", equalTo("5"))
+                .willReturn(aResponse().withStatus(200).withBody("[true]")));
+        HttpGradeService batched = new HttpGradeService(service.getConfig().toBuilder().batchSize(3).build());
+        try {
+            assertArrayEquals(new boolean[]{true, true, false, true}, batched.checkGrades(new int[]{2, 3, 6, 5}));
+        } finally {
+            batched.close();
+        }
+        verify(2, getRequestedFor(urlPathEqualTo("/checkGrades")));
+        verify(0, getRequestedFor(urlPathEqualTo("/checkGrade")));
+    }
+
+    @DisplayName("Проверка перехода на поштучную валидацию без пакетного метода на сервере")
+    @Test
+    void testCheckGradesFallback() throws IOException {
+        stubFor(get(urlPathEqualTo("/checkGrades"))
+                .willReturn(aResponse().withStatus(404)));
+
+        assertArrayEquals(new boolean[]{true, true}, service.checkGrades(new int[]{4, 5}));
+        assertFalse(service.isBatchSupported());
+        assertArrayEquals(new boolean[]{true}, service.checkGrades(new int[]{3}));
+
+        verify(1, getRequestedFor(urlPathEqualTo("/checkGrades")));
+        verify(3, getRequestedFor(urlPathEqualTo("/checkGrade")));
+    }
+
+    @DisplayName("Проверка повторной проверки пакетного метода после паузы")
+    @Test
+    void testCheckGradesReprobe() throws IOException, InterruptedException {
+        stubFor(get(urlPathEqualTo("/checkGrades"))
+                .willReturn(aResponse().withStatus(404)));
+        HttpGradeService reprobing = new HttpGradeService(service.getConfig().toBuilder().batchReprobeMs(50).build());
+        try {
+            reprobing.checkGrades(new int[]{4});
+            assertFalse(reprobing.isBatchSupported());
+
+            stubFor(get(urlPathEqualTo("/checkGrades"))
+                    .willReturn(aResponse().withStatus(200).withBody("true,true")));
+            Thread.sleep(100);
+            assertArrayEquals(new boolean[]{true, true}, reprobing.checkGrades(new int[]{4, 5}));
+            assertTrue(reprobing.isBatchSupported());
+        } finally {
+            reprobing.close();
+        }
+        verify(2, getRequestedFor(urlPathEqualTo("/checkGrades")));
+        verify(1, getRequestedFor(urlPathEqualTo("/checkGrade")));
+    }
+
+    @DisplayName("Сравнение пропускной способности: клиент на запрос и пул соединений")
+    @Test
+    void testThroughput() throws IOException {
+        String url = wireMockServer.baseUrl() + "/checkGrade?grade=5";
+
+        long start = System.nanoTime();
+        for (int i = 0; i < REQUESTS; i++) {
+            try (CloseableHttpClient client = HttpClients.createDefault();
+                 CloseableHttpResponse response = client.execute(new HttpGet(url))) {
+                assertEquals("true", EntityUtils.toString(response.getEntity()));
+            }
+        }
+        double before = REQUESTS / ((System.nanoTime() - start) / 1e9);
+
+        start = System.nanoTime();
+        for (int i = 0; i < REQUESTS; i++) {
+            assertTrue(service.checkGrade(5));
+        }
+        double after = REQUESTS / ((System.nanoTime() - start) / 1e9);
+
+        System.out.printf("checkGrade throughput: client per request %.0f req/s, pooled %.0f req/s%n", before, after);
+        assertEquals(0, service.getLeasedConnections());
+    }
+}
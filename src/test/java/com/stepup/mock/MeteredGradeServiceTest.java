@@ -0,0 +1,53 @@
+package com.stepup.mock;
+
+import com.stepup.util.MetricsRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class MeteredGradeServiceTest {
+
+    @DisplayName("Проверка замеров вызовов /checkGrade и /educ из Student")
+    @Test
+    void testRecordsRemoteCalls() throws IOException {
+        GradeService remote = mock(GradeService.class);
+        when(remote.checkGrade(5)).thenReturn(true);
+        when(remote.getRatingForGradeSum(5)).thenThrow(new IOException("down"));
+        MetricsRegistry registry = new MetricsRegistry();
+
+        Student student = new Student("Тест");
+        student.setGradeService(new MeteredGradeService(remote, registry));
+        student.addGrade(5);
+        assertThrows(IOException.class, student::raiting);
+
+        assertEquals(1, registry.timer("grade_service.check_grade").getCount());
+        assertEquals(0, registry.timer("grade_service.check_grade").getErrors());
+        assertEquals(1, registry.timer("grade_service.rating").getCount());
+        assertEquals(1.0, registry.timer("grade_service.rating").getErrorRate());
+    }
+
+    @DisplayName("Проверка замеров асинхронных вызовов")
+    @Test
+    void testRecordsAsyncCalls() {
+        AsyncGradeService remote = mock(AsyncGradeService.class);
+        when(remote.checkGradeAsync(5)).thenReturn(CompletableFuture.completedFuture(true));
+        when(remote.getRatingForGradeSumAsync(5))
+                .thenReturn(CompletableFuture.failedFuture(new IOException("down")));
+        MetricsRegistry registry = new MetricsRegistry();
+
+        Student student = new Student("Тест");
+        student.setAsyncGradeService(new MeteredAsyncGradeService(remote, registry));
+        student.addGradeAsync(5).join();
+        assertThrows(CompletionException.class, () -> student.ratingAsync().join());
+
+        assertEquals(1, registry.timer("grade_service.check_grade_async").getCount());
+        assertEquals(0, registry.timer("grade_service.check_grade_async").getErrors());
+        assertEquals(1, registry.timer("grade_service.rating_async").getErrors());
+    }
+}
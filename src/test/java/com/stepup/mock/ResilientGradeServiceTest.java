@@ -0,0 +1,172 @@
+package com.stepup.mock;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+import com.github.tomakehurst.wiremock.client.WireMock;
+import com.github.tomakehurst.wiremock.http.Fault;
+import com.stepup.util.CircuitBreaker;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.net.SocketTimeoutException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMockConfig;
+import static com.github.tomakehurst.wiremock.stubbing.Scenario.STARTED;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ResilientGradeServiceTest {
+
+    private static final ResilienceConfig FAST = ResilienceConfig.builder()
+            .initialBackoffMs(1)
+            .maxBackoffMs(5)
+            .build();
+
+    private WireMockServer wireMockServer;
+    private HttpGradeService http;
+
+    @BeforeEach
+    void setUp() {
+        wireMockServer = new WireMockServer(wireMockConfig().dynamicPort());
+        wireMockServer.start();
+        WireMock.configureFor("localhost", wireMockServer.port());
+        http = new HttpGradeService(HttpClientConfig.builder()
+                .baseUrl(wireMockServer.baseUrl())
+                .socketTimeoutMs(200)
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        http.close();
+        wireMockServer.stop();
+    }
+
+    @DisplayName("Проверка повторных попыток после обрыва соединения")
+    @Test
+    void testRetriesAfterConnectionReset() throws IOException {
+        stubFor(get(urlPathEqualTo("/checkGrade")).inScenario("flaky").whenScenarioStateIs(STARTED)
+                .willReturn(aResponse().withFault(Fault.CONNECTION_RESET_BY_PEER))
+                .willSetStateTo("recovered"));
+        stubFor(get(urlPathEqualTo("/checkGrade")).inScenario("flaky").whenScenarioStateIs("recovered")
+                .willReturn(aResponse().withStatus(200).withBody("true")));
+
+        ResilientGradeService service = new ResilientGradeService(http, FAST);
+
+        assertTrue(service.checkGrade(5));
+        verify(2, getRequestedFor(urlPathEqualTo("/checkGrade")));
+        assertEquals(CircuitBreaker.State.CLOSED, service.getCircuitBreaker().getState());
+    }
+
+    @DisplayName("Проверка таймаута чтения для медленного сервиса")
+    @Test
+    void testReadTimeout() {
+        stubFor(get(urlPathEqualTo("/educ"))
+                .willReturn(aResponse().withStatus(200).withBody("3").withFixedDelay(1_000)));
+
+        ResilientGradeService service = new ResilientGradeService(http, FAST.toBuilder().maxAttempts(2).build());
+
+        long start = System.nanoTime();
+        assertThrows(SocketTimeoutException.class, () -> service.getRatingForGradeSum(9));
+        assertTrue(System.nanoTime() - start < TimeUnit.MILLISECONDS.toNanos(900));
+        verify(2, getRequestedFor(urlPathEqualTo("/educ")));
+    }
+
+    @DisplayName("Проверка отсутствия повторов для ошибок клиента")
+    @Test
+    void testNoRetryOnClientError() {
+        stubFor(get(urlPathEqualTo("/educ")).willReturn(aResponse().withStatus(400).withBody("bad")));
+
+        ResilientGradeService service = new ResilientGradeService(http, FAST);
+
+        HttpStatusException e = assertThrows(HttpStatusException.class, () -> service.getRatingForGradeSum(9));
+        assertEquals(400, e.getStatusCode());
+        verify(1, getRequestedFor(urlPathEqualTo("/educ")));
+    }
+
+    @DisplayName("Проверка размыкания цепи при недоступном сервисе")
+    @Test
+    void testCircuitOpens() throws IOException {
+        stubFor(get(urlPathEqualTo("/checkGrade")).willReturn(aResponse().withStatus(503)));
+        AtomicLong now = new AtomicLong();
+        CircuitBreaker breaker = new CircuitBreaker(3, 1, TimeUnit.SECONDS, now::get);
+        ResilientGradeService service = new ResilientGradeService(http, FAST, breaker);
+
+        assertThrows(HttpStatusException.class, () -> service.checkGrade(5));
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+        assertThrows(CircuitOpenException.class, () -> service.checkGrade(5));
+        verify(3, getRequestedFor(urlPathEqualTo("/checkGrade")));
+
+        stubFor(get(urlPathEqualTo("/checkGrade")).willReturn(aResponse().withStatus(200).withBody("true")));
+        now.addAndGet(TimeUnit.SECONDS.toNanos(1));
+        assertTrue(service.checkGrade(5));
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+    }
+
+    @DisplayName("Проверка освобождения пробного запроса после непроверяемого исключения")
+    @Test
+    void testHalfOpenProbeReleasedOnRuntimeException() throws IOException {
+        stubFor(get(urlPathEqualTo("/educ")).willReturn(aResponse().withStatus(503)));
+        AtomicLong now = new AtomicLong();
+        CircuitBreaker breaker = new CircuitBreaker(3, 1, TimeUnit.SECONDS, now::get);
+        ResilientGradeService service = new ResilientGradeService(http, FAST, breaker);
+        assertThrows(HttpStatusException.class, () -> service.getRatingForGradeSum(9));
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+
+        stubFor(get(urlPathEqualTo("/educ")).willReturn(aResponse().withStatus(200).withBody("garbage")));
+        now.addAndGet(TimeUnit.SECONDS.toNanos(1));
+        assertThrows(NumberFormatException.class, () -> service.getRatingForGradeSum(9));
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+
+        stubFor(get(urlPathEqualTo("/educ")).willReturn(aResponse().withStatus(200).withBody("3")));
+        now.addAndGet(TimeUnit.SECONDS.toNanos(1));
+        assertEquals(3, service.getRatingForGradeSum(9));
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+    }
+
+    @DisplayName("Проверка сохранения состояния цепи при прерывании пробного запроса")
+    @Test
+    void testInterruptedProbeKeepsCircuitHalfOpen() throws IOException {
+        GradeService remote = mock(GradeService.class);
+        when(remote.getRatingForGradeSum(9))
+                .thenThrow(new IOException("down"))
+                .thenThrow(new InterruptedIOException("interrupted"))
+                .thenReturn(3);
+        AtomicLong now = new AtomicLong();
+        CircuitBreaker breaker = new CircuitBreaker(1, 1, TimeUnit.SECONDS, now::get);
+        ResilientGradeService service = new ResilientGradeService(remote, FAST, breaker);
+        assertThrows(IOException.class, () -> service.getRatingForGradeSum(9));
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+
+        now.addAndGet(TimeUnit.SECONDS.toNanos(1));
+        assertThrows(InterruptedIOException.class, () -> service.getRatingForGradeSum(9));
+        assertEquals(CircuitBreaker.State.HALF_OPEN, breaker.getState());
+
+        assertEquals(3, service.getRatingForGradeSum(9));
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+    }
+
+    @DisplayName("Проверка локальной валидации при отказе сервиса")
+    @Test
+    void testLocalFallback() throws IOException {
+        stubFor(get(urlPathEqualTo("/checkGrade")).willReturn(aResponse().withFault(Fault.EMPTY_RESPONSE)));
+        stubFor(get(urlPathEqualTo("/educ")).willReturn(aResponse().withFault(Fault.EMPTY_RESPONSE)));
+
+        ResilientGradeService service = new ResilientGradeService(http,
+                FAST.toBuilder().localFallback(true).build());
+        Student student = new Student("Тест");
+        student.setGradeService(service);
+
+        student.addGrade(4);
+        assertThrows(IllegalArgumentException.class, () -> student.addGrade(7));
+        assertEquals(4, student.getGrades().get(0));
+        assertThrows(IOException.class, student::raiting);
+    }
+}
@@ -0,0 +1,145 @@
+package com.stepup.mock;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+import com.stepup.util.MetricsRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMockConfig;
+import static com.github.tomakehurst.wiremock.stubbing.Scenario.STARTED;
+import static org.junit.jupiter.api.Assertions.*;
+
+class RoutingGradeServiceTest {
+
+    private WireMockServer slow;
+    private WireMockServer fast;
+    private RoutingGradeService service;
+    private final MetricsRegistry registry = new MetricsRegistry();
+
+    @BeforeEach
+    void setUp() {
+        slow = new WireMockServer(wireMockConfig().dynamicPort());
+        fast = new WireMockServer(wireMockConfig().dynamicPort());
+        slow.start();
+        fast.start();
+        slow.stubFor(get(urlPathEqualTo("/educ"))
+                .willReturn(aResponse().withStatus(200).withBody("1").withFixedDelay(300)));
+        fast.stubFor(get(urlPathEqualTo("/educ"))
+                .willReturn(aResponse().withStatus(200).withBody("2")));
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        if (service != null) {
+            service.close();
+        }
+        slow.stop();
+        fast.stop();
+    }
+
+    private RoutingGradeService routing(RoutingConfig config) {
+        service = RoutingGradeService.forUrls(List.of(slow.baseUrl(), fast.baseUrl()),
+                HttpClientConfig.defaults(), config, registry);
+        return service;
+    }
+
+    @DisplayName("Проверка выбора реплики с меньшей задержкой")
+    @Test
+    void testPrefersFasterReplica() throws IOException {
+        RoutingGradeService service = routing(RoutingConfig.defaults());
+
+        for (int i = 0; i < 20; i++) {
+            service.getRatingForGradeSum(9);
+        }
+
+        assertEquals(1, service.getRequests(0));
+        assertEquals(19, service.getRequests(1));
+        assertEquals(20, registry.timer("grade_service.routing").getCount());
+        assertTrue(registry.scrape().contains("grade_service.routing"));
+        assertTrue(service.getLatencyEwmaMs(0) > service.getLatencyEwmaMs(1));
+        assertEquals(0, service.getOutstanding(0));
+    }
+
+    @DisplayName("Проверка переключения на другую реплику при отказе")
+    @Test
+    void testFailoverWithRetries() throws IOException {
+        slow.stubFor(get(urlPathEqualTo("/checkGrade")).willReturn(aResponse().withStatus(503)));
+        fast.stubFor(get(urlPathEqualTo("/checkGrade")).willReturn(aResponse().withStatus(200).withBody("true")));
+        RoutingGradeService routing = routing(RoutingConfig.defaults());
+        ResilientGradeService service = new ResilientGradeService(routing, ResilienceConfig.builder()
+                .initialBackoffMs(1)
+                .build());
+
+        for (int i = 0; i < 5; i++) {
+            assertTrue(service.checkGrade(5));
+        }
+
+        slow.verify(1, getRequestedFor(urlPathEqualTo("/checkGrade")));
+        fast.verify(5, getRequestedFor(urlPathEqualTo("/checkGrade")));
+    }
+
+    @DisplayName("Проверка дублирующего запроса при медленной реплике")
+    @Test
+    void testHedging() throws IOException {
+        RoutingGradeService service = routing(RoutingConfig.builder()
+                .hedging(true)
+                .hedgeMinDelayMs(20)
+                .build());
+
+        long start = System.nanoTime();
+        assertEquals(2, service.getRatingForGradeSum(9));
+        assertTrue(System.nanoTime() - start < TimeUnit.MILLISECONDS.toNanos(250));
+        assertEquals(1, service.getHedgedRequests());
+        slow.verify(1, getRequestedFor(urlPathEqualTo("/educ")));
+        fast.verify(1, getRequestedFor(urlPathEqualTo("/educ")));
+
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(150);
+        while (service.getOutstanding(0) > 0 && System.nanoTime() < deadline) {
+            Thread.onSpinWait();
+        }
+        assertEquals(0, service.getOutstanding(0), "проигравший запрос должен быть прерван");
+    }
+
+    @DisplayName("Проверка возврата трафика на реплику после штрафа")
+    @Test
+    void testPenalizedReplicaRecovers() throws IOException {
+        slow.stubFor(get(urlPathEqualTo("/checkGrade")).inScenario("blip").whenScenarioStateIs(STARTED)
+                .willReturn(aResponse().withStatus(503))
+                .willSetStateTo("recovered"));
+        slow.stubFor(get(urlPathEqualTo("/checkGrade")).inScenario("blip").whenScenarioStateIs("recovered")
+                .willReturn(aResponse().withStatus(200).withBody("true")));
+        fast.stubFor(get(urlPathEqualTo("/checkGrade")).willReturn(aResponse().withStatus(200).withBody("true")));
+        RoutingGradeService service = routing(RoutingConfig.builder().decayMs(50).build());
+
+        assertThrows(HttpStatusException.class, () -> service.checkGrade(5));
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(2);
+        while (service.getRequests(0) < 2 && System.nanoTime() < deadline) {
+            assertTrue(service.checkGrade(5));
+        }
+
+        assertEquals(2, service.getRequests(0));
+        assertTrue(service.getRequests(1) > 0);
+    }
+
+    @DisplayName("Проверка ошибки, когда обе реплики отказали")
+    @Test
+    void testHedgingBothFail() {
+        slow.stubFor(get(urlPathEqualTo("/educ"))
+                .willReturn(aResponse().withStatus(500).withFixedDelay(100)));
+        fast.stubFor(get(urlPathEqualTo("/educ")).willReturn(aResponse().withStatus(502)));
+        RoutingGradeService service = routing(RoutingConfig.builder()
+                .hedging(true)
+                .hedgeMinDelayMs(20)
+                .build());
+
+        HttpStatusException e = assertThrows(HttpStatusException.class, () -> service.getRatingForGradeSum(9));
+        assertTrue(e.getStatusCode() >= 500);
+    }
+}
@@ -2,12 +2,15 @@ package com.stepup.mock;
 
 import com.github.tomakehurst.wiremock.WireMockServer;
 import com.github.tomakehurst.wiremock.client.WireMock;
+import com.stepup.util.MetricsRegistry;
+import com.stepup.util.Timer;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.io.IOException;
 import java.util.List;
+import java.util.stream.IntStream;
 
 import static com.github.tomakehurst.wiremock.client.WireMock.*;
 import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMockConfig;
@@ -49,4 +52,85 @@ public class StudentMockTest {
         assertEquals(1, grades.size());
         assertEquals(5, grades.get(0));
     }
+
+    @Test
+    void testAddGrades() throws IOException {
+        stubFor(get(urlPathEqualTo("/checkGrades"))
+                .withQueryParam("grades", equalTo("5,4,3"))
+                .willReturn(aResponse()
+                        .withStatus(200)
+                        .withBody("true,true,true")));
+
+        Student student = new Student("Тест");
+        student.addGrades(5, 4, 3);
+
+        assertEquals(List.of(5, 4, 3), student.getGrades());
+        verify(0, getRequestedFor(urlPathEqualTo("/checkGrade")));
+    }
+
+    @Test
+    void testGradeViewsAreSnapshots() throws IOException {
+        stubFor(get(urlPathEqualTo("/checkGrades"))
+                .willReturn(aResponse()
+                        .withStatus(200)
+                        .withBody("true,true")));
+
+        Student student = new Student("Тест");
+        student.addGrades(5, 4);
+        List<Integer> view = student.getGradesView();
+        IntStream stream = student.gradeStream();
+        assertSame(view, student.getGradesView());
+        student.addGrades(3, 2);
+
+        assertEquals(List.of(5, 4), view);
+        assertEquals(9, stream.sum());
+        assertEquals(List.of(5, 4, 3, 2), student.getGradesView());
+        assertThrows(UnsupportedOperationException.class, () -> view.add(5));
+    }
+
+    @Test
+    void testDefaultServiceIsMetered() throws IOException {
+        stubFor(get(urlPathEqualTo("/checkGrade"))
+                .willReturn(aResponse()
+                        .withStatus(200)
+                        .withBody("true")));
+        Timer timer = MetricsRegistry.global().timer("grade_service.check_grade");
+        long before = timer.getCount();
+
+        new Student("Тест").addGrade(4);
+
+        assertEquals(before + 1, timer.getCount());
+    }
+
+    @Test
+    void testAddGradesRejectsWholeBatch() {
+        stubFor(get(urlPathEqualTo("/checkGrades"))
+                .withQueryParam("grades", equalTo("5,7"))
+                .willReturn(aResponse()
+                        .withStatus(200)
+                        .withBody("true,false")));
+
+        Student student = new Student("Тест");
+        assertThrows(IllegalArgumentException.class, () -> student.addGrades(List.of(5, 7)));
+        assertTrue(student.getGrades().isEmpty());
+    }
+
+    @Test
+    void testRaiting() throws IOException {
+        stubFor(get(urlPathEqualTo("/checkGrade"))
+                .willReturn(aResponse()
+                        .withStatus(200)
+                        .withBody("true")));
+        stubFor(get(urlPathEqualTo("/educ"))
+                .withQueryParam("sum", equalTo("9"))
+                .willReturn(aResponse()
+                        .withStatus(200)
+                        .withBody("3")));
+
+        Student student = new Student("Тест");
+        student.addGrade(4);
+        student.addGrade(5);
+
+        assertEquals(3, student.raiting());
+    }
 }
@@ -0,0 +1,118 @@
+package com.stepup.mock2;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class CachingStudentRepositoryTest {
+
+    private InMemoryStudentRepository backend;
+    private CachingStudentRepository repo;
+
+    @BeforeEach
+    void setUp() {
+        backend = spy(new InMemoryStudentRepository(sum -> sum / 10));
+        repo = new CachingStudentRepository(backend, 2, 1, TimeUnit.MINUTES);
+    }
+
+    @DisplayName("Проверка чтения студента и количества через кеш")
+    @Test
+    void testReadThrough() {
+        Student student = repo.save(new Student("Petya"));
+
+        for (int i = 0; i < 5; i++) {
+            assertSame(student, repo.findById(student.getId()).orElseThrow());
+            assertEquals(1, repo.count());
+        }
+
+        verify(backend, times(1)).findById(student.getId());
+        verify(backend, times(1)).count();
+        assertEquals(0.8, repo.getStudentCache().getHitRatio(), 1e-9);
+    }
+
+    @DisplayName("Проверка сброса кеша при изменениях")
+    @Test
+    void testInvalidation() {
+        Student petya = repo.save(new Student("Petya"));
+        Student vasya = repo.save(new Student("Vasya"));
+        assertTrue(repo.existsById(petya.getId()));
+        assertEquals(2, repo.count());
+
+        repo.delete(petya);
+        assertFalse(repo.existsById(petya.getId()));
+        assertEquals(1, repo.count());
+
+        repo.saveAll(List.of(new Student("Kolya"), new Student("Olya")));
+        assertEquals(3, repo.count());
+
+        repo.deleteAll(List.of(vasya));
+        assertTrue(repo.findById(vasya.getId()).isEmpty());
+        assertEquals(2, repo.count());
+
+        assertTrue(repo.deleteById(repo.findAll().iterator().next().getId()));
+        assertEquals(1, repo.count());
+    }
+
+    @DisplayName("Проверка вытеснения давно неиспользуемых студентов")
+    @Test
+    void testEviction() {
+        Student a = repo.save(new Student("A"));
+        Student b = repo.save(new Student("B"));
+        Student c = repo.save(new Student("C"));
+        repo.findById(a.getId());
+        repo.findById(b.getId());
+        repo.findById(a.getId());
+        repo.findById(c.getId());
+        repo.findById(a.getId());
+
+        assertEquals(1, repo.getStudentCache().getEvictions());
+        verify(backend, times(1)).findById(a.getId());
+    }
+
+    @DisplayName("Проверка кеширования рейтинга и сброса при смене формулы")
+    @Test
+    void testRatingCache() {
+        assertEquals(4, repo.getRatingForGradeSum(45));
+        assertEquals(4, repo.getRatingForGradeSum(45));
+        verify(backend, times(1)).getRatingForGradeSum(45);
+
+        backend.setRatingForGradeSum(sum -> sum);
+        assertEquals(45, repo.getRatingForGradeSum(45));
+    }
+
+    @DisplayName("Проверка отказа от кеширования значения, прочитанного до удаления")
+    @Test
+    void testStaleReadIsNotCached() {
+        Student student = repo.save(new Student("Petya"));
+        doAnswer(invocation -> {
+            Object loaded = invocation.callRealMethod();
+            repo.deleteById(student.getId());
+            return loaded;
+        }).doCallRealMethod().when(backend).findById(student.getId());
+
+        assertTrue(repo.findById(student.getId()).isPresent());
+        assertTrue(repo.findById(student.getId()).isEmpty());
+        assertEquals(0, repo.getStudentCache().size());
+    }
+
+    @DisplayName("Проверка пакетных операций с одноразовым Iterable")
+    @Test
+    void testOneShotIterable() {
+        Student petya = new Student("Petya");
+        Student vasya = new Student("Vasya");
+        repo.saveAll(Stream.of(petya, vasya)::iterator);
+        assertEquals(2, repo.count());
+        assertTrue(repo.existsById(petya.getId()));
+
+        repo.deleteAll(Stream.of(petya)::iterator);
+        assertFalse(repo.existsById(petya.getId()));
+        assertEquals(1, repo.count());
+    }
+}
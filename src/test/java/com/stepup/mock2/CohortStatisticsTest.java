@@ -0,0 +1,83 @@
+package com.stepup.mock2;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static com.stepup.mock2.Students.student;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CohortStatisticsTest {
+
+    @DisplayName("Проверка статистики по группе студентов")
+    @Test
+    public void testStatistics() {
+        InMemoryStudentRepository repo = new InMemoryStudentRepository(sum -> sum >= 10 ? 1 : 2);
+        repo.save(student("A", 5, 5));
+        repo.save(student("B", 2, 3, 4));
+        repo.save(student("C", 4, 4, 5, 5));
+        repo.save(student("D"));
+
+        CohortStatistics stats = CohortStatistics.of(repo);
+
+        assertEquals(4, stats.students());
+        assertEquals(3, stats.gradedStudents());
+        assertEquals(Map.of(2, 1L, 3, 1L, 4, 3L, 5, 4L), stats.gradeHistogram());
+        assertEquals(0, stats.gradeCount(7));
+        assertEquals((5.0 + 3.0 + 4.5) / 3, stats.meanAverage(), 1e-9);
+        assertEquals(4.5, stats.medianAverage());
+        assertEquals(Map.of(1, 2L, 2, 2L), stats.ratingBuckets());
+    }
+
+    @DisplayName("Проверка статистики по пустому репозиторию")
+    @Test
+    public void testEmpty() {
+        CohortStatistics stats = CohortStatistics.of(new InMemoryStudentRepository(sum -> sum));
+
+        assertEquals(0, stats.students());
+        assertEquals(0.0, stats.meanAverage());
+        assertEquals(0.0, stats.medianAverage());
+        assertTrue(stats.ratingBuckets().isEmpty());
+    }
+
+    @DisplayName("Проверка совпадения параллельного и последовательного расчёта")
+    @Test
+    public void testParallelMatchesSequential() {
+        InMemoryStudentRepository repo = new InMemoryStudentRepository(sum -> sum / 10);
+        for (int i = 0; i < 50_000; i++) {
+            Student student = new Student("Student " + i);
+            for (int j = 0; j < i % 7; j++) {
+                student.addGrade((i + j) % 4 + 2);
+            }
+            repo.save(student);
+        }
+
+        CohortStatistics parallel = CohortStatistics.of(repo);
+        CohortStatistics sequential = CohortStatistics.of(repo.streamAll().sequential(), repo::getRatingForGradeSum);
+
+        assertEquals(sequential.students(), parallel.students());
+        assertEquals(sequential.gradedStudents(), parallel.gradedStudents());
+        assertEquals(sequential.gradeHistogram(), parallel.gradeHistogram());
+        assertEquals(sequential.ratingBuckets(), parallel.ratingBuckets());
+        assertEquals(sequential.medianAverage(), parallel.medianAverage());
+        assertEquals(sequential.meanAverage(), parallel.meanAverage(), 1e-9);
+    }
+
+    @DisplayName("Проверка статистики для студентов с большим числом оценок")
+    @Test
+    public void testLongGradeHistories() {
+        InMemoryStudentRepository repo = new InMemoryStudentRepository(sum -> sum >= 1_000 ? 1 : 2);
+        Student diligent = new Student("Diligent");
+        for (int i = 0; i < 600; i++) {
+            diligent.addGrade(i % 3 == 0 ? 4 : 5);
+        }
+        repo.save(diligent);
+        repo.save(student("Short", 2, 3, 3));
+
+        CohortStatistics stats = CohortStatistics.of(repo);
+
+        assertEquals(Map.of(1, 1L, 2, 1L), stats.ratingBuckets());
+        assertEquals((14.0 / 3 + 8.0 / 3) / 2, stats.medianAverage(), 1e-3);
+    }
+}
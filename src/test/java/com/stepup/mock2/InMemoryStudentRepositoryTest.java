@@ -0,0 +1,291 @@
+package com.stepup.mock2;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static com.stepup.mock2.Students.student;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class InMemoryStudentRepositoryTest {
+
+    private InMemoryStudentRepository repo;
+
+    @BeforeEach
+    public void setUp() {
+        repo = new InMemoryStudentRepository(sum -> sum > 50 ? 9 : 10);
+    }
+
+    @DisplayName("Проверка назначения ID и поиска")
+    @Test
+    public void testSaveAssignsId() {
+        Student first = repo.save(student("Первый", 5));
+        Student second = repo.save(student("Второй", 4));
+
+        assertEquals(1L, first.getId());
+        assertEquals(2L, second.getId());
+        assertEquals(2, repo.count());
+        assertSame(second, repo.findById(2).orElseThrow());
+        assertTrue(repo.findById(3).isEmpty());
+    }
+
+    @DisplayName("Проверка сохранения с явным ID и обновления")
+    @Test
+    public void testSaveWithExplicitId() {
+        Student explicit = student("Явный", 5);
+        explicit.setId(10L);
+        repo.save(explicit);
+
+        Student updated = student("Обновленный", 4);
+        updated.setId(10L);
+        repo.save(updated);
+
+        assertEquals(1, repo.count());
+        assertEquals("Обновленный", repo.findById(10).orElseThrow().getName());
+        assertEquals(11L, repo.save(student("Авто")).getId());
+    }
+
+    @DisplayName("Проверка удаления")
+    @Test
+    public void testDelete() {
+        List<Student> saved = new ArrayList<>();
+        repo.saveAll(List.of(student("А"), student("Б"), student("В"))).forEach(saved::add);
+
+        repo.delete(saved.get(0));
+        assertEquals(2, repo.count());
+        assertTrue(repo.deleteById(saved.get(1).getId()));
+        assertFalse(repo.deleteById(saved.get(1).getId()));
+
+        repo.deleteAll(saved);
+        assertEquals(0, repo.count());
+        assertFalse(repo.findAll().iterator().hasNext());
+    }
+
+    @DisplayName("Проверка потокового и постраничного чтения")
+    @Test
+    public void testStreamingFindAll() {
+        for (int i = 0; i < 25; i++) {
+            repo.save(student("Студент " + i, i % 4 + 2));
+        }
+
+        assertEquals(25, repo.streamAll().count());
+        assertEquals(86, repo.streamAll().mapToLong(s -> s.getStats().sum()).sum());
+
+        Iterator<List<Student>> pages = repo.findAllPaged(10);
+        List<Integer> sizes = new ArrayList<>();
+        Set<Long> ids = new HashSet<>();
+        while (pages.hasNext()) {
+            List<Student> page = pages.next();
+            sizes.add(page.size());
+            page.forEach(s -> ids.add(s.getId()));
+        }
+        assertEquals(List.of(10, 10, 5), sizes);
+        assertEquals(25, ids.size());
+        assertThrows(IllegalArgumentException.class, () -> repo.findAllPaged(0));
+    }
+
+    @DisplayName("Проверка пакетного сохранения и удаления с объединением записей")
+    @Test
+    public void testBatchedWrites() {
+        List<BatchReport> reports = new ArrayList<>();
+        repo.setBatchSize(4);
+        repo.setBatchListener(reports::add);
+
+        Student often = student("Часто");
+        List<Student> input = List.of(often, student("А"), often, student("Б"), often, student("В"));
+        List<Student> saved = new ArrayList<>();
+        repo.saveAll(input).forEach(saved::add);
+
+        assertEquals(input, saved);
+        assertEquals(4, repo.count());
+        assertEquals(2, reports.size());
+        assertEquals(new BatchReport(BatchReport.Operation.SAVE, 4, 3, reports.get(0).nanos()), reports.get(0));
+        assertEquals(1, reports.get(0).coalesced());
+        assertEquals(2, reports.get(1).received());
+        assertEquals(2, reports.get(1).written());
+
+        reports.clear();
+        repo.deleteAll(input);
+        assertEquals(0, repo.count());
+        assertEquals(BatchReport.Operation.DELETE, reports.get(0).operation());
+        assertEquals(3, reports.get(0).written());
+    }
+
+    @DisplayName("Проверка рейтинга по сумме оценок")
+    @Test
+    public void testRating() {
+        Student student = student("Рейтинг", 4, 4);
+        student.setRepo(repo);
+        assertEquals(10, student.rating());
+    }
+
+    @DisplayName("Проверка неизменности hashCode и equals после сохранения")
+    @Test
+    public void testSaveKeepsHash() {
+        Student saved = student("Petya", 5, 4);
+        Set<Student> set = new HashSet<>();
+        set.add(saved);
+        repo.save(saved);
+
+        assertTrue(set.contains(saved));
+        assertEquals(student("Petya", 5, 4), saved);
+        assertFalse(saved.toString().contains("repo="));
+    }
+
+    @DisplayName("Проверка индекса лучших студентов при конкурентном сохранении и удалении")
+    @Test
+    public void testConcurrentSaveDeleteKeepsTopIndex() throws Exception {
+        Student best = repo.save(student("Best", 3));
+        int rounds = 200_000;
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<?> saver = executor.submit(() -> {
+                for (long id = 1_000; id < 1_000 + rounds; id++) {
+                    Student contender = student("Contender", 5);
+                    contender.setId(id);
+                    repo.save(contender);
+                }
+                return null;
+            });
+            Future<?> deleter = executor.submit(() -> {
+                for (long id = 1_000; id < 1_000 + rounds; id++) {
+                    while (!repo.deleteById(id)) {
+                        Thread.onSpinWait();
+                    }
+                }
+                return null;
+            });
+            saver.get();
+            deleter.get();
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(1, repo.count());
+        assertEquals(List.of(best), repo.findTopStudents());
+    }
+
+    @DisplayName("Проверка отсутствия перезаписи явного ID автоматически назначенным")
+    @Test
+    public void testAutoIdNeverOverwritesExplicitId() throws Exception {
+        int rounds = 100_000;
+        List<Student> auto = new ArrayList<>(rounds);
+        List<Student> explicit = new ArrayList<>(rounds);
+        for (long id = 1; id <= rounds; id++) {
+            auto.add(student("Auto " + id));
+            Student student = student("Explicit " + id);
+            student.setId(id * 2);
+            explicit.add(student);
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        List<Student> accepted = new ArrayList<>(rounds);
+        try {
+            Future<?> autoSaver = executor.submit(() -> {
+                auto.forEach(repo::save);
+                return null;
+            });
+            Future<?> explicitSaver = executor.submit(() -> {
+                for (Student student : explicit) {
+                    try {
+                        repo.save(student);
+                        accepted.add(student);
+                    } catch (IllegalStateException e) {
+                        // ID уже выдан автоматически другому студенту
+                    }
+                }
+                return null;
+            });
+            autoSaver.get();
+            explicitSaver.get();
+        } finally {
+            executor.shutdownNow();
+        }
+
+        for (Student student : auto) {
+            Student stored = repo.findById(student.getId()).orElseThrow();
+            // явное сохранение уже выданного ID - это обновление, а не гонка
+            assertTrue(stored == student || stored.getName().startsWith("Explicit"));
+        }
+        for (Student student : accepted) {
+            assertSame(student, repo.findById(student.getId()).orElseThrow());
+        }
+    }
+
+    @DisplayName("Проверка сохранения уже принятых студентов при ошибке в пакете")
+    @Test
+    public void testSaveAllStoresAcceptedStudentsOnError() {
+        Student first = student("First", 5);
+        List<Student> batch = new ArrayList<>();
+        batch.add(first);
+        batch.add(null);
+
+        assertThrows(IllegalArgumentException.class, () -> repo.saveAll(batch));
+        assertEquals(List.of(first), repo.findTopStudents());
+    }
+
+    @DisplayName("Нагрузочная проверка конкурентных операций")
+    @Test
+    public void testConcurrentMixedWorkload() throws Exception {
+        int threads = Math.max(4, Runtime.getRuntime().availableProcessors());
+        int perThread = 20_000;
+        Set<Long> ids = ConcurrentHashMap.newKeySet();
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Integer>> results = new ArrayList<>();
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            for (int t = 0; t < threads; t++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    ThreadLocalRandom random = ThreadLocalRandom.current();
+                    List<Student> own = new ArrayList<>();
+                    int deleted = 0;
+                    for (int i = 0; i < perThread; i++) {
+                        Student saved = repo.save(student("S", random.nextInt(2, 6)));
+                        assertTrue(ids.add(saved.getId()), "ID выдан повторно");
+                        own.add(saved);
+                        repo.findById(random.nextLong(1, ids.size() + 1));
+                        if (i % 4 == 0) {
+                            repo.delete(own.get(random.nextInt(own.size())));
+                        }
+                    }
+                    for (Student student : own) {
+                        if (repo.findById(student.getId()).isEmpty()) {
+                            deleted++;
+                        }
+                    }
+                    return deleted;
+                }));
+            }
+            long begin = System.nanoTime();
+            start.countDown();
+            int deleted = 0;
+            for (Future<Integer> result : results) {
+                deleted += result.get();
+            }
+            double seconds = (System.nanoTime() - begin) / 1e9;
+            System.out.printf("InMemoryStudentRepository: %d threads, %.0f ops/s%n",
+                    threads, threads * perThread * 2.25 / seconds);
+
+            assertEquals((long) threads * perThread, ids.size());
+            assertEquals((long) threads * perThread - deleted, repo.count());
+            Set<Long> stored = new HashSet<>();
+            repo.findAll().forEach(student -> stored.add(student.getId()));
+            assertEquals(repo.count(), stored.size());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,247 @@
+package com.stepup.mock2;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.zip.CRC32C;
+
+import static com.stepup.mock2.Students.student;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MappedFileStudentRepositoryTest {
+
+    private static final MappedLogConfig SMALL_LOG = MappedLogConfig.builder()
+            .initialSize(256)
+            .compactionIntervalMs(0)
+            .compactionMinRecords(10)
+            .build();
+
+    @TempDir
+    Path dir;
+
+    private MappedFileStudentRepository open() throws IOException {
+        return new MappedFileStudentRepository(dir.resolve("students.log"), sum -> sum, SMALL_LOG);
+    }
+
+    @DisplayName("Проверка восстановления данных после перезапуска")
+    @Test
+    public void testReopen() throws IOException {
+        try (MappedFileStudentRepository repo = open()) {
+            repo.save(student("Иван", 5, 4, 3));
+            repo.save(student("Мария", 5, 5));
+            Student removed = repo.save(student("Удаленный", 2));
+            Student updated = student("Обновленный", 4);
+            updated.setId(1L);
+            repo.save(updated);
+            repo.delete(removed);
+        }
+
+        try (MappedFileStudentRepository repo = open()) {
+            assertEquals(2, repo.count());
+            Student first = repo.findById(1).orElseThrow();
+            assertEquals("Обновленный", first.getName());
+            assertEquals(List.of(4), first.getGrades());
+            assertEquals(List.of(5, 5), repo.findById(2).orElseThrow().getGrades());
+            assertTrue(repo.findById(3).isEmpty());
+            assertEquals(List.of(repo.findById(2).orElseThrow()), repo.findTopStudents());
+            assertEquals(4L, repo.save(student("Новый")).getId());
+        }
+    }
+
+    @DisplayName("Проверка роста файла при большом числе записей")
+    @Test
+    public void testGrowth() throws IOException {
+        try (MappedFileStudentRepository repo = open()) {
+            for (int i = 0; i < 10_000; i++) {
+                repo.save(student("Студент " + i, 5, 4));
+            }
+        }
+        try (MappedFileStudentRepository repo = open()) {
+            assertEquals(10_000, repo.count());
+            assertEquals("Студент 9999", repo.findById(10_000).orElseThrow().getName());
+        }
+    }
+
+    @DisplayName("Проверка компактизации журнала")
+    @Test
+    public void testCompaction() throws IOException {
+        try (MappedFileStudentRepository repo = open()) {
+            Student student = student("Часто обновляемый", 5);
+            for (int i = 0; i < 100; i++) {
+                student.addGrade(4);
+                repo.save(student);
+            }
+            repo.save(student("Другой", 3));
+            long before = repo.getLogSize();
+
+            assertTrue(repo.compactIfNeeded());
+            assertEquals(2, repo.getLogRecords());
+            assertTrue(repo.getLogSize() < before);
+            repo.save(student("После компактизации"));
+        }
+        try (MappedFileStudentRepository repo = open()) {
+            assertEquals(3, repo.count());
+            assertEquals(101, repo.findById(1).orElseThrow().getGrades().size());
+        }
+    }
+
+    @DisplayName("Проверка пакетной записи в журнал")
+    @Test
+    public void testBatchedLogWrites() throws IOException {
+        try (MappedFileStudentRepository repo = open()) {
+            Student often = student("Часто", 5);
+            repo.saveAll(List.of(often, student("А", 4), often, often));
+            assertEquals(2, repo.getLogRecords());
+
+            repo.deleteAll(List.of(often, often));
+            assertEquals(3, repo.getLogRecords());
+        }
+        try (MappedFileStudentRepository repo = open()) {
+            assertEquals(1, repo.count());
+            assertEquals("А", repo.findById(2).orElseThrow().getName());
+        }
+    }
+
+    private static ByteBuffer record(byte type, long id, byte... body) {
+        ByteBuffer payload = ByteBuffer.allocate(1 + Long.BYTES + body.length).put(type).putLong(id).put(body).flip();
+        CRC32C crc = new CRC32C();
+        crc.update(payload.duplicate());
+        return ByteBuffer.allocate(Integer.BYTES * 2 + payload.remaining())
+                .putInt(payload.remaining()).putInt((int) crc.getValue()).put(payload).flip();
+    }
+
+    private void writeAt(long offset, ByteBuffer bytes) throws IOException {
+        try (FileChannel channel = FileChannel.open(dir.resolve("students.log"), StandardOpenOption.WRITE)) {
+            channel.write(bytes, offset);
+        }
+    }
+
+    @DisplayName("Проверка очистки остатков оборванной записи при восстановлении")
+    @Test
+    public void testTornTailIsDiscarded() throws IOException {
+        long end;
+        try (MappedFileStudentRepository repo = open()) {
+            repo.save(student("Иван", 5));
+            repo.save(student("Мария", 4));
+            end = repo.getLogSize();
+        }
+        // оборванная запись: длина не записана, а в хвосте осталось тело, похожее на DELETE студента 1
+        int nextRecord = Integer.BYTES * 2 + 1 + Long.BYTES + Integer.BYTES + 1 + Integer.BYTES;
+        writeAt(end + 4, ByteBuffer.wrap(new byte[]{1, 2, 3, 4}));
+        writeAt(end + nextRecord, record((byte) 2, 1L));
+
+        try (MappedFileStudentRepository repo = open()) {
+            assertEquals(2, repo.count());
+            repo.save(student("N"));
+            assertEquals(end + nextRecord, repo.getLogSize());
+        }
+        try (MappedFileStudentRepository repo = open()) {
+            assertEquals(3, repo.count());
+            assertEquals("Иван", repo.findById(1).orElseThrow().getName());
+        }
+    }
+
+    @DisplayName("Проверка отказа от записей неизвестного типа и с неверной контрольной суммой")
+    @Test
+    public void testCorruptRecordsAreRejected() throws IOException {
+        long end;
+        try (MappedFileStudentRepository repo = open()) {
+            repo.save(student("Иван", 5));
+            end = repo.getLogSize();
+        }
+        writeAt(end, record((byte) 7, 1L));
+        try (MappedFileStudentRepository repo = open()) {
+            assertEquals(1, repo.count());
+            assertEquals(1, repo.getLogRecords());
+        }
+
+        ByteBuffer badCrc = record((byte) 2, 1L);
+        badCrc.putInt(Integer.BYTES, 42);
+        writeAt(end, badCrc);
+        try (MappedFileStudentRepository repo = open()) {
+            assertTrue(repo.existsById(1));
+            repo.save(student("Мария", 4));
+        }
+        try (MappedFileStudentRepository repo = open()) {
+            assertEquals(2, repo.count());
+        }
+    }
+
+    @DisplayName("Проверка сохранения оценок, добавленных после записи студента")
+    @Test
+    public void testAddedGradesSurviveReopen() throws IOException {
+        try (MappedFileStudentRepository repo = open()) {
+            Student student = repo.save(student("Иван", 5));
+            student.addGrade(4);
+            student.addGrade(3);
+        }
+        try (MappedFileStudentRepository repo = open()) {
+            assertEquals(List.of(5, 4, 3), repo.findById(1).orElseThrow().getGrades());
+        }
+    }
+
+    @DisplayName("Проверка работы журнала после неудачной компактизации")
+    @Test
+    public void testFailedCompactionKeepsLog() throws IOException {
+        Files.createDirectories(dir.resolve("students.log.compact").resolve("busy"));
+        try (MappedFileStudentRepository repo = open()) {
+            repo.save(student("Иван", 5));
+            assertThrows(UncheckedIOException.class, repo::compact);
+            assertEquals(1, repo.getLogRecords());
+            for (int i = 0; i < 20; i++) {
+                repo.save(student("Мария", 4));
+            }
+        }
+        try (MappedFileStudentRepository repo = open()) {
+            assertEquals(21, repo.count());
+            assertEquals("Мария", repo.findById(21).orElseThrow().getName());
+        }
+    }
+
+    @DisplayName("Проверка открытия журнала только для чтения без изменения файла")
+    @Test
+    public void testReadOnlyOpenLeavesFileUntouched() throws IOException {
+        Path log = dir.resolve("students.log");
+        try (MappedFileStudentRepository repo = open()) {
+            repo.save(student("Иван", 5));
+        }
+        writeAt(Files.size(log) - 1, ByteBuffer.wrap(new byte[]{7}));
+        byte[] before = Files.readAllBytes(log);
+
+        try (MappedFileStudentRepository repo = new MappedFileStudentRepository(log, sum -> sum,
+                SMALL_LOG.toBuilder().readOnly(true).build())) {
+            assertEquals("Иван", repo.findById(1).orElseThrow().getName());
+            assertThrows(UnsupportedOperationException.class, () -> repo.save(student("Мария")));
+            assertThrows(UnsupportedOperationException.class, () -> repo.findById(1).orElseThrow().addGrade(4));
+        }
+        assertArrayEquals(before, Files.readAllBytes(log));
+        assertThrows(IOException.class, () -> new MappedFileStudentRepository(dir.resolve("missing.log"), sum -> sum,
+                MappedLogConfig.builder().readOnly(true).build()));
+        assertFalse(Files.exists(dir.resolve("missing.log")));
+    }
+
+    @DisplayName("Проверка пропускной способности записи")
+    @Test
+    public void testWriteThroughput() throws IOException {
+        int saves = 200_000;
+        try (MappedFileStudentRepository repo = new MappedFileStudentRepository(dir.resolve("bulk.log"), sum -> sum,
+                MappedLogConfig.builder().syncEveryWrites(10_000).compactionIntervalMs(0).build())) {
+            long start = System.nanoTime();
+            for (int i = 0; i < saves; i++) {
+                repo.save(student("Студент", 5, 4, 3));
+            }
+            double seconds = (System.nanoTime() - start) / 1e9;
+            System.out.printf("MappedFileStudentRepository: %.0f saves/min%n", saves / seconds * 60);
+            assertEquals(saves, repo.count());
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.stepup.mock2;
+
+import com.stepup.util.MetricsRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MeteredStudentRepositoryTest {
+
+    @DisplayName("Проверка замеров операций репозитория и рейтинга студента")
+    @Test
+    void testRecordsOperations() {
+        MetricsRegistry registry = new MetricsRegistry();
+        MeteredStudentRepository repo = new MeteredStudentRepository(
+                new InMemoryStudentRepository(sum -> sum / 2), registry);
+
+        Student student = repo.save(new Student("Petya"));
+        student.addGrade(4);
+        student.addGrade(5);
+        assertEquals(4, student.rating());
+        assertTrue(repo.findById(student.getId()).isPresent());
+        assertEquals(1, repo.count());
+        assertThrows(IllegalArgumentException.class, () -> repo.save(null));
+
+        assertEquals(2, registry.timer("repository.save").getCount());
+        assertEquals(1, registry.timer("repository.save").getErrors());
+        assertEquals(1, registry.timer("repository.rating").getCount());
+        assertEquals(1, registry.timer("repository.find_by_id").getCount());
+        assertEquals(1, registry.timer("repository.count").getCount());
+        assertEquals(1, repo.findTopStudents().size());
+    }
+
+    @DisplayName("Проверка замеров рейтинга для студентов из любых запросов")
+    @Test
+    void testBindsStudentsOnce() {
+        InMemoryStudentRepository backend = new InMemoryStudentRepository(sum -> sum);
+        Student existing = backend.save(new Student("Existing"));
+        existing.addGrade(5);
+        MetricsRegistry registry = new MetricsRegistry();
+        MeteredStudentRepository repo = new MeteredStudentRepository(backend, registry);
+        Student created = repo.save(new Student("Created"));
+        created.addGrade(4);
+
+        int hash = created.hashCode();
+        repo.findAll().forEach(Student::rating);
+        repo.streamAll().forEach(Student::rating);
+        repo.findTopStudents().forEach(Student::rating);
+
+        assertEquals(5, registry.timer("repository.rating").getCount());
+        assertEquals(hash, repo.findById(created.getId()).orElseThrow().hashCode());
+        assertEquals(List.of(existing), repo.findTopStudents());
+    }
+
+    @DisplayName("Проверка выдачи метрик через /metrics")
+    @Test
+    void testMetricsEndpoint() throws IOException, InterruptedException {
+        MetricsRegistry registry = new MetricsRegistry();
+        MeteredStudentRepository repo = new MeteredStudentRepository(
+                new InMemoryStudentRepository(sum -> sum), registry);
+        repo.save(new Student("Petya"));
+
+        try (StudentHttpServer server = StudentHttpServer.start(repo, 0, registry)) {
+            HttpResponse<String> response = HttpClient.newHttpClient().send(
+                    HttpRequest.newBuilder(URI.create("http://localhost:" + server.getPort() + "/metrics")).build(),
+                    HttpResponse.BodyHandlers.ofString());
+
+            assertEquals(200, response.statusCode());
+            assertTrue(response.body().contains("repository.save count=1 errors=0"), response.body());
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.stepup.mock2;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+public class RatingTableTest {
+
+    @DisplayName("Проверка рейтинга из таблицы без обращений к репозиторию")
+    @Test
+    public void testRatingFromTable() {
+        StudentRepository repo = spy(new StudentRepositoryMock());
+        RatingTable table = new RatingTable(repo, 100);
+        verify(repo, times(101)).getRatingForGradeSum(anyInt());
+
+        Student student = new Student("Test Student");
+        student.setRepo(repo);
+        student.setRatingTable(table);
+        for (int i = 0; i < 11; i++) {
+            student.addGrade(5);
+        }
+
+        assertEquals(9, student.rating());
+        verify(repo, times(101)).getRatingForGradeSum(anyInt());
+
+        assertEquals(9, table.ratingFor(500));
+        verify(repo).getRatingForGradeSum(500);
+    }
+
+    @DisplayName("Проверка обновления таблицы при изменении правила в репозитории")
+    @Test
+    public void testRefreshOnChange() {
+        InMemoryStudentRepository repo = new InMemoryStudentRepository(sum -> 1);
+        RatingTable table = new RatingTable(repo, 20);
+        assertEquals(1, table.ratingFor(10));
+
+        repo.setRatingForGradeSum(sum -> sum * 2);
+        assertEquals(20, table.ratingFor(10));
+    }
+
+    @DisplayName("Проверка обновления таблицы по расписанию")
+    @Test
+    public void testScheduledRefresh() throws InterruptedException {
+        AtomicInteger version = new AtomicInteger(1);
+        StudentRepository repo = new StudentRepositoryMock() {
+            @Override
+            public int getRatingForGradeSum(int sum) {
+                return version.get();
+            }
+        };
+        RatingTable table = new RatingTable(repo, 10);
+        ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+        try {
+            table.scheduleRefresh(scheduler, 10, TimeUnit.MILLISECONDS);
+            version.set(2);
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (table.ratingFor(5) != 2 && System.nanoTime() < deadline) {
+                Thread.sleep(5);
+            }
+            assertEquals(2, table.ratingFor(5));
+        } finally {
+            scheduler.shutdownNow();
+        }
+    }
+}
@@ -5,6 +5,8 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import io.restassured.response.Response;
 import org.junit.jupiter.api.*;
 
+import java.io.IOException;
+import java.net.BindException;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
@@ -20,6 +22,24 @@ public class RestTests {
     private static final String STUDENT_ENDPOINT = BASE_URL + "/student";
     private static final String TOP_STUDENT_ENDPOINT = BASE_URL + "/topStudent";
 
+    private static StudentHttpServer server;
+
+    @BeforeAll
+    public static void startServer() throws IOException {
+        // Если порт уже занят (запущен RestApp.jar), тестируем внешний сервис
+        try {
+            server = StudentHttpServer.start(new InMemoryStudentRepository(sum -> sum), 8080);
+        } catch (BindException e) {
+            server = null;
+        }
+    }
+
+    @AfterAll
+    public static void stopServer() {
+        if (server != null) {
+            server.close();
+        }
+    }
 
     @BeforeEach
     public void setUp() {
@@ -332,6 +352,23 @@ public class RestTests {
     }
 
 
+    // get /student возвращает JSON-массив всех студентов в порядке ID, код 200.
+    @DisplayName("8a.testListStudents Проверка 200 get /student")
+    @Test
+    public void testListStudents() {
+        createStudent(2, "Second", new int[]{3});
+        createStudent(1, "First", new int[]{5, 4});
+
+        given()
+                .when()
+                .get(STUDENT_ENDPOINT)
+                .then()
+                .statusCode(200)
+                .body("id", contains(1, 2))
+                .body("name", contains("First", "Second"))
+                .body("[0].marks", contains(5, 4));
+    }
+
     // Тесты для GET /topStudent
     //9.	get /topStudent код 200 и пустое тело, если студентов в базе нет.
     @DisplayName("9.testTopStudentEmpty Проверка 200 get /topStudent ")
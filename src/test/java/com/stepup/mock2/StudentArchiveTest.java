@@ -0,0 +1,117 @@
+package com.stepup.mock2;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static com.stepup.mock2.Students.student;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class StudentArchiveTest {
+
+    @DisplayName("Проверка экспорта и импорта студентов")
+    @Test
+    public void testRoundTrip() throws IOException {
+        InMemoryStudentRepository source = new InMemoryStudentRepository(sum -> sum);
+        source.save(student("Петя", 5, 4, 3, 2, 5));
+        source.save(student(null));
+        Student vasya = source.save(student("Vasya", 2, 2, 3, 4));
+        Student kolya = new Student("Kolya");
+        kolya.setId(Long.MAX_VALUE - 1);
+        source.save(kolya);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        assertEquals(4, StudentArchive.export(source, out));
+
+        InMemoryStudentRepository target = new InMemoryStudentRepository(sum -> sum);
+        assertEquals(4, StudentArchive.importInto(new ByteArrayInputStream(out.toByteArray()), target, 3));
+        assertEquals(source.count(), target.count());
+        assertEquals(List.of(2, 2, 3, 4), target.findById(vasya.getId()).orElseThrow().getGrades());
+        for (Student student : source.findAll()) {
+            Student imported = target.findById(student.getId()).orElseThrow();
+            assertEquals(student.getName(), imported.getName());
+            assertEquals(student.getGrades(), imported.getGrades());
+        }
+    }
+
+    @DisplayName("Проверка упаковки оценок по два бита")
+    @Test
+    public void testPackedSize() throws IOException {
+        InMemoryStudentRepository source = new InMemoryStudentRepository(sum -> sum);
+        int[] marks = new int[1_000];
+        Arrays.fill(marks, 5);
+        source.save(student("A", marks));
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        StudentArchive.export(source, out);
+        // заголовок 5 байт, id 1 байт, имя 2 байта, количество оценок 2 байта, оценки 250 байт
+        assertEquals(5 + 1 + 2 + 2 + 250, out.size());
+    }
+
+    @DisplayName("Проверка импорта пачками через saveAll")
+    @Test
+    public void testImportBatches() throws IOException {
+        InMemoryStudentRepository source = new InMemoryStudentRepository(sum -> sum);
+        for (int i = 0; i < 25; i++) {
+            source.save(student("Student " + i, i % 4 + 2));
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        StudentArchive.export(source, out);
+
+        List<BatchReport> reports = new ArrayList<>();
+        InMemoryStudentRepository target = new InMemoryStudentRepository(sum -> sum);
+        target.setBatchListener(reports::add);
+        StudentArchive.importInto(new ByteArrayInputStream(out.toByteArray()), target, 10);
+
+        assertEquals(25, target.count());
+        assertEquals(List.of(10, 10, 5), reports.stream().map(BatchReport::received).toList());
+    }
+
+    @DisplayName("Проверка отказа на повреждённом архиве")
+    @Test
+    public void testMalformed() throws IOException {
+        InMemoryStudentRepository target = new InMemoryStudentRepository(sum -> sum);
+        assertThrows(IOException.class, () -> StudentArchive.importInto(
+                new ByteArrayInputStream("{\"id\":1}".getBytes()), target, 10));
+
+        InMemoryStudentRepository source = new InMemoryStudentRepository(sum -> sum);
+        source.save(student("Truncated", 5, 5, 5, 5, 5));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        StudentArchive.export(source, out);
+        byte[] truncated = Arrays.copyOf(out.toByteArray(), out.size() - 1);
+        assertThrows(IOException.class, () -> StudentArchive.importInto(
+                new ByteArrayInputStream(truncated), target, 10));
+    }
+
+    @DisplayName("Проверка переноса между файловыми репозиториями")
+    @Test
+    public void testMappedFileRoundTrip(@TempDir Path dir) throws IOException {
+        Path archive = dir.resolve("students.bin");
+        try (MappedFileStudentRepository repo = new MappedFileStudentRepository(dir.resolve("a.log"), sum -> sum);
+             OutputStream out = Files.newOutputStream(archive)) {
+            for (int i = 0; i < 100; i++) {
+                repo.save(student("Student " + i, 5, 4, i % 4 + 2));
+            }
+            assertEquals(100, StudentArchive.export(repo, out));
+        }
+        try (InputStream in = Files.newInputStream(archive);
+             MappedFileStudentRepository repo = new MappedFileStudentRepository(dir.resolve("b.log"), sum -> sum)) {
+            assertEquals(100, StudentArchive.importInto(in, repo, 16));
+        }
+        try (MappedFileStudentRepository repo = new MappedFileStudentRepository(dir.resolve("b.log"), sum -> sum)) {
+            assertEquals(100, repo.count());
+            assertEquals(List.of(5, 4, 2), repo.findById(1L).orElseThrow().getGrades());
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package com.stepup.mock2;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static com.stepup.mock2.Students.student;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class StudentJsonTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @DisplayName("Проверка формата записи")
+    @Test
+    public void testWrite() {
+        assertEquals("{\"id\":13,\"name\":\"Student 1\",\"marks\":[5,4,3]}",
+                new String(StudentJson.toBytes(student(13L, "Student 1", 5, 4, 3)), StandardCharsets.UTF_8));
+        assertEquals("{\"id\":null,\"name\":null,\"marks\":[]}",
+                new String(StudentJson.toBytes(student((Long) null, null)), StandardCharsets.UTF_8));
+    }
+
+    @DisplayName("Проверка совместимости записи с Jackson")
+    @Test
+    public void testWriteReadableByJackson() throws IOException {
+        Student tricky = student(Long.MAX_VALUE, "Имя \"в кавычках\" \\ \n\t\u0001 😀", 2, 5);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        StudentJson.write(List.of(tricky, student(2L, "Второй", 4)), out);
+
+        List<Map<String, Object>> parsed = objectMapper.readValue(out.toByteArray(), new TypeReference<>() {});
+        assertEquals(2, parsed.size());
+        assertEquals(Long.MAX_VALUE, parsed.get(0).get("id"));
+        assertEquals(tricky.getName(), parsed.get(0).get("name"));
+        assertEquals(List.of(2, 5), parsed.get(0).get("marks"));
+        assertEquals("Второй", parsed.get(1).get("name"));
+    }
+
+    @DisplayName("Проверка чтения, сгенерированного Jackson")
+    @Test
+    public void testReadJacksonOutput() throws IOException {
+        String name = "Имя \"в кавычках\" \\ \n\t\u0001 😀";
+        byte[] json = objectMapper.writeValueAsBytes(Map.of("id", 7, "name", name, "marks", List.of(4, 5)));
+
+        Student student = StudentJson.read(new ByteArrayInputStream(json));
+        assertEquals(7L, student.getId());
+        assertEquals(name, student.getName());
+        assertEquals(List.of(4, 5), student.getGrades());
+    }
+
+    @DisplayName("Проверка чтения без ID и с пробелами")
+    @Test
+    public void testReadWithoutId() {
+        Student student = StudentJson.read(" { \"name\" : \"AutoId Student\" , \"marks\" : [ 4 , 5 , 4 ] } ");
+        assertNull(student.getId());
+        assertEquals("AutoId Student", student.getName());
+        assertEquals(List.of(4, 5, 4), student.getGrades());
+        assertNull(StudentJson.read("{\"name\":null,\"marks\":[]}").getName());
+    }
+
+    @DisplayName("Проверка отклонения некорректного JSON")
+    @Test
+    public void testMalformed() {
+        assertThrows(IllegalArgumentException.class, () -> StudentJson.read("{\"name\":null,\"marks\":4,5,4}"));
+        assertThrows(IllegalArgumentException.class, () -> StudentJson.read("{\"name\":\"A\",\"marks\":[7]}"));
+        assertThrows(IllegalArgumentException.class, () -> StudentJson.read("{\"name\":\"A\"} x"));
+        assertThrows(IllegalArgumentException.class, () -> StudentJson.read("{\"age\":1}"));
+        assertThrows(IllegalArgumentException.class, () -> StudentJson.read("{\"name\":\"A"));
+    }
+
+    @DisplayName("Проверка полного диапазона long для ID")
+    @Test
+    public void testLongRange() {
+        for (long id : new long[]{Long.MAX_VALUE, Long.MIN_VALUE, 1_000_000_000_000_000_000L}) {
+            assertEquals(id, StudentJson.read(StudentJson.toBytes(student(id, "A"))).getId());
+        }
+        assertThrows(IllegalArgumentException.class, () -> StudentJson.read("{\"id\":9223372036854775808}"));
+        assertThrows(IllegalArgumentException.class, () -> StudentJson.read("{\"id\":-9223372036854775809}"));
+    }
+
+    @DisplayName("Проверка потокового чтения по одному байту")
+    @Test
+    public void testReadByteByByte() throws IOException {
+        String name = "Имя \"в кавычках\" \\ \n\t\u0001 😀";
+        byte[] json = objectMapper.writeValueAsBytes(Map.of("id", 7, "name", name, "marks", List.of(4, 5)));
+        InputStream oneByte = new ByteArrayInputStream(json) {
+            @Override
+            public synchronized int read(byte[] b, int off, int len) {
+                return super.read(b, off, Math.min(len, 1));
+            }
+        };
+
+        Student student = StudentJson.read(oneByte);
+        assertEquals(7L, student.getId());
+        assertEquals(name, student.getName());
+        assertEquals(List.of(4, 5), student.getGrades());
+    }
+
+    @DisplayName("Проверка потоковой записи фиксированными порциями")
+    @Test
+    public void testWriteInChunks() throws IOException {
+        List<Student> students = new ArrayList<>();
+        for (long id = 1; id <= 10_000; id++) {
+            students.add(student(id, "Student " + id, 5, 4, 3));
+        }
+        int[] largestWrite = new int[1];
+        ByteArrayOutputStream out = new ByteArrayOutputStream() {
+            @Override
+            public synchronized void write(byte[] b, int off, int len) {
+                largestWrite[0] = Math.max(largestWrite[0], len);
+                super.write(b, off, len);
+            }
+        };
+
+        StudentJson.write(students, out);
+
+        assertTrue(largestWrite[0] <= 8 * 1024);
+        assertArrayEquals(StudentJson.toBytes(students), out.toByteArray());
+    }
+}
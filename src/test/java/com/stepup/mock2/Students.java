@@ -0,0 +1,17 @@
+package com.stepup.mock2;
+
+public class Students {
+    public static Student student(String name, int... grades) {
+        Student student = new Student(name);
+        for (int grade : grades) {
+            student.addGrade(grade);
+        }
+        return student;
+    }
+
+    public static Student student(Long id, String name, int... grades) {
+        Student student = student(name, grades);
+        student.setId(id);
+        return student;
+    }
+}
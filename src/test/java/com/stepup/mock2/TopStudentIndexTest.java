@@ -0,0 +1,153 @@
+package com.stepup.mock2;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TopStudentIndexTest {
+
+    private InMemoryStudentRepository repo;
+
+    @BeforeEach
+    public void setUp() {
+        repo = new InMemoryStudentRepository(sum -> sum);
+    }
+
+    private void createStudent(long id, String name, int... marks) {
+        Student student = new Student(name);
+        student.setId(id);
+        for (int mark : marks) {
+            student.addGrade(mark);
+        }
+        repo.save(student);
+    }
+
+    private List<Long> topIds() {
+        return repo.findTopStudents().stream().map(Student::getId).sorted().toList();
+    }
+
+    @DisplayName("Пустой результат, если студентов нет или ни у кого нет оценок")
+    @Test
+    public void testEmpty() {
+        assertTrue(topIds().isEmpty());
+        createStudent(10, "Student 1");
+        createStudent(11, "Student 2");
+        assertTrue(topIds().isEmpty());
+    }
+
+    @DisplayName("Студент с максимальной средней оценкой")
+    @Test
+    public void testMaxAverage() {
+        createStudent(13, "Student 1", 5, 5, 5);
+        createStudent(14, "Student 2", 4, 4, 4);
+        createStudent(15, "Student 3", 5, 4, 5);
+        assertEquals(List.of(13L), topIds());
+    }
+
+    @DisplayName("При равной средней выигрывает студент с большим числом оценок")
+    @Test
+    public void testMostMarks() {
+        createStudent(13, "Student 1", 5, 5, 5);
+        createStudent(14, "Student 2", 5, 5, 5, 5);
+        createStudent(15, "Student 3", 5, 4, 5);
+        createStudent(16, "Student 4", 5, 5);
+        assertEquals(List.of(14L), topIds());
+    }
+
+    @DisplayName("Несколько студентов с равной средней и числом оценок")
+    @Test
+    public void testEqualTop() {
+        createStudent(13, "Student 1", 5, 5, 5);
+        createStudent(14, "Student 2", 5, 5, 5);
+        createStudent(15, "Student 3", 5, 4, 5);
+        createStudent(16, "Student 4", 5, 5, 5);
+        assertEquals(List.of(13L, 14L, 16L), topIds());
+    }
+
+    @DisplayName("Индекс обновляется при добавлении оценок, перезаписи и удалении")
+    @Test
+    public void testIncrementalUpdates() {
+        createStudent(1, "Student 1", 5, 5);
+        createStudent(2, "Student 2", 4);
+        assertEquals(List.of(1L), topIds());
+
+        Student second = repo.findById(2).orElseThrow();
+        second.addGrade(5);
+        second.addGrade(5);
+        second.addGrade(5);
+        assertEquals(List.of(1L), topIds());
+
+        repo.findById(1).orElseThrow().addGrade(2);
+        assertEquals(List.of(2L), topIds());
+
+        createStudent(2, "Student 2", 3);
+        assertEquals(List.of(1L), topIds());
+
+        repo.deleteById(1);
+        assertEquals(List.of(2L), topIds());
+        repo.deleteAll(List.of(repo.findById(2).orElseThrow()));
+        assertTrue(topIds().isEmpty());
+    }
+
+    @DisplayName("Проверка выдачи top-K в порядке убывания")
+    @Test
+    public void testTopK() {
+        TopStudentIndex index = new TopStudentIndex();
+        long id = 1;
+        for (int[] marks : new int[][]{{3}, {5, 5}, {4, 5}, {5}, {2, 2}}) {
+            Student student = new Student("S" + id);
+            student.setId(id++);
+            for (int mark : marks) {
+                student.addGrade(mark);
+            }
+            index.update(student);
+        }
+        assertEquals(List.of(2L, 4L, 3L), index.topIds(3));
+        assertEquals(List.of(2L), index.topIds());
+    }
+
+    @DisplayName("Проверка конкурентного обновления индекса разными студентами")
+    @Test
+    public void testConcurrentUpdates() throws Exception {
+        TopStudentIndex index = new TopStudentIndex();
+        int threads = 4;
+        int perThread = 20_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                long first = (long) t * perThread + 1;
+                futures.add(executor.submit(() -> {
+                    for (long id = first; id < first + perThread; id++) {
+                        Student student = new Student("S" + id);
+                        student.setId(id);
+                        student.addGrade(4);
+                        index.update(student);
+                        student.addGrade(id % 1_000 == 0 ? 5 : 3);
+                        index.update(student);
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        List<Long> expected = new ArrayList<>();
+        for (long id = 1_000; id <= (long) threads * perThread; id += 1_000) {
+            expected.add(id);
+        }
+        assertEquals(expected, index.topIds());
+        assertEquals(expected.subList(0, 3), index.topIds(3));
+    }
+}
@@ -0,0 +1,32 @@
+package com.stepup.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConcurrentGradeLogTest {
+
+    @DisplayName("Проверка порядка оценок на границах сегментов")
+    @Test
+    void testChunkBoundaries() {
+        ConcurrentGradeLog grades = new ConcurrentGradeLog();
+        int[] expected = new int[10_000];
+        for (int i = 0; i < expected.length; i++) {
+            expected[i] = i % 4 + 2;
+            grades.append(expected[i]);
+        }
+
+        assertArrayEquals(expected, grades.toIntArray());
+        assertEquals(expected.length, grades.size());
+    }
+
+    @DisplayName("Проверка статистики пустого журнала")
+    @Test
+    void testEmpty() {
+        ConcurrentGradeLog grades = new ConcurrentGradeLog();
+        assertEquals(GradeStats.EMPTY, grades.stats());
+        assertEquals(0, grades.toIntArray().length);
+        assertThrows(IllegalArgumentException.class, () -> grades.append(1));
+    }
+}
@@ -0,0 +1,118 @@
+package com.stepup.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GradeListTest {
+
+    @DisplayName("Проверка совместимости с контрактом List<Integer>")
+    @Test
+    void testListContract() {
+        GradeList grades = new GradeList();
+        List<Integer> expected = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            grades.append(i % 4 + 2);
+            expected.add(i % 4 + 2);
+        }
+        grades.add(0, 5);
+        expected.add(0, 5);
+        grades.remove(10);
+        expected.remove(10);
+        grades.set(3, 2);
+        expected.set(3, 2);
+
+        assertEquals(expected, grades);
+        assertEquals(grades, expected);
+        assertEquals(expected.hashCode(), grades.hashCode());
+        assertEquals(expected.toString(), grades.toString());
+    }
+
+    @DisplayName("Проверка примитивного доступа и суммы")
+    @Test
+    void testPrimitiveAccess() {
+        GradeList grades = new GradeList(List.of(4, 5, 3));
+
+        assertEquals(5, grades.getInt(1));
+        assertEquals(12, grades.sum());
+        assertArrayEquals(new int[]{4, 5, 3}, grades.toIntArray());
+    }
+
+    @DisplayName("Проверка выхода за границы")
+    @Test
+    void testBounds() {
+        GradeList grades = new GradeList();
+        assertThrows(IndexOutOfBoundsException.class, () -> grades.getInt(0));
+        assertThrows(IllegalArgumentException.class, () -> grades.append(1_000));
+    }
+
+    @DisplayName("Проверка инкрементальных агрегатов после изменений")
+    @Test
+    void testStats() {
+        GradeList grades = new GradeList();
+        assertEquals(GradeStats.EMPTY, grades.stats());
+
+        grades.append(4);
+        grades.append(2);
+        grades.append(5);
+        assertEquals(new GradeStats(3, 11, 2, 5), grades.stats());
+        assertEquals(11.0 / 3, grades.average(), 1e-9);
+
+        grades.remove(Integer.valueOf(2));
+        assertEquals(new GradeStats(2, 9, 4, 5), grades.stats());
+
+        grades.set(1, 3);
+        assertEquals(new GradeStats(2, 7, 3, 4), grades.stats());
+
+        grades.clear();
+        grades.append(5);
+        assertEquals(new GradeStats(1, 5, 5, 5), grades.stats());
+    }
+
+    @DisplayName("Проверка кешированного hashCode после изменений")
+    @Test
+    void testCachedHashCode() {
+        GradeList grades = new GradeList();
+        List<Integer> expected = new ArrayList<>();
+        for (int i = 0; i < 1_000; i++) {
+            grades.append(i % 4 + 2);
+            expected.add(i % 4 + 2);
+            assertEquals(expected.hashCode(), grades.hashCode());
+        }
+
+        grades.remove(500);
+        expected.remove(500);
+        assertEquals(expected.hashCode(), grades.hashCode());
+
+        grades.add(10, 5);
+        expected.add(10, 5);
+        grades.set(0, 3);
+        expected.set(0, 3);
+        assertEquals(expected.hashCode(), grades.hashCode());
+
+        grades.append(4);
+        expected.add(4);
+        assertEquals(expected.hashCode(), grades.hashCode());
+        assertEquals(new GradeList(expected), grades);
+    }
+
+    @DisplayName("Проверка независимости копии списка оценок")
+    @Test
+    void testCopy() {
+        GradeList grades = new GradeList(List.of(5, 2, 4));
+        GradeList copy = grades.copy();
+        grades.remove(1);
+        grades.append(3);
+
+        assertEquals(List.of(5, 2, 4), copy);
+        assertEquals(2, copy.min());
+        assertEquals(11, copy.sum());
+        copy.append(5);
+        assertEquals(List.of(5, 2, 4, 5), copy);
+        assertEquals(List.of(5, 4, 3), grades);
+    }
+}
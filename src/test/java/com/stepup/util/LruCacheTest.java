@@ -0,0 +1,67 @@
+package com.stepup.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LruCacheTest {
+
+    @DisplayName("Проверка вытеснения самой давно использованной записи")
+    @Test
+    void testSizeEviction() {
+        LruCache<Integer, String> cache = new LruCache<>(2, 0, TimeUnit.SECONDS);
+        cache.put(1, "a");
+        cache.put(2, "b");
+        cache.get(1);
+        cache.put(3, "c");
+
+        assertEquals("a", cache.get(1));
+        assertNull(cache.get(2));
+        assertEquals("c", cache.get(3));
+        assertEquals(1, cache.getEvictions());
+    }
+
+    @DisplayName("Проверка истечения TTL")
+    @Test
+    void testTtlExpiry() {
+        AtomicLong now = new AtomicLong();
+        LruCache<Integer, String> cache = new LruCache<>(10, 5, TimeUnit.SECONDS, now::get);
+        cache.put(1, "a");
+
+        now.addAndGet(TimeUnit.SECONDS.toNanos(4));
+        assertEquals("a", cache.get(1));
+
+        now.addAndGet(TimeUnit.SECONDS.toNanos(1));
+        assertNull(cache.get(1));
+        assertEquals(0, cache.size());
+    }
+
+    @DisplayName("Проверка счетчиков попаданий и промахов")
+    @Test
+    void testCounters() {
+        LruCache<Integer, String> cache = new LruCache<>(10, 0, TimeUnit.SECONDS);
+        cache.get(1);
+        cache.put(1, "a");
+        cache.get(1);
+        cache.get(1);
+
+        assertEquals(2, cache.getHits());
+        assertEquals(1, cache.getMisses());
+        assertEquals(2.0 / 3, cache.getHitRatio(), 1e-9);
+    }
+
+    @DisplayName("Проверка условной записи")
+    @Test
+    void testPutIf() {
+        LruCache<Integer, String> cache = new LruCache<>(2, 0, TimeUnit.SECONDS);
+
+        assertFalse(cache.putIf(1, "a", () -> false));
+        assertNull(cache.get(1));
+        assertTrue(cache.putIf(1, "a", () -> true));
+        assertEquals("a", cache.get(1));
+    }
+}
@@ -0,0 +1,60 @@
+package com.stepup.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MetricsRegistryTest {
+
+    @DisplayName("Проверка подсчёта вызовов, ошибок и перцентилей")
+    @Test
+    void testTimer() {
+        MetricsRegistry registry = new MetricsRegistry();
+        Timer timer = registry.timer("test.call");
+        assertSame(timer, registry.timer("test.call"));
+
+        for (int i = 1; i <= 100; i++) {
+            timer.record(TimeUnit.MICROSECONDS.toNanos(i), i % 10 == 0);
+        }
+
+        assertEquals(100, timer.getCount());
+        assertEquals(10, timer.getErrors());
+        assertEquals(0.1, timer.getErrorRate(), 1e-9);
+        assertEquals(50_000, timer.percentileNanos(50), 50);
+        assertEquals(99_000, timer.percentileNanos(99), 100);
+        assertEquals(100_000, timer.snapshot().getMaxValue(), 100);
+    }
+
+    @DisplayName("Проверка учёта исключений как ошибок")
+    @Test
+    void testRecordCall() throws IOException {
+        Timer timer = new MetricsRegistry().timer("test.io");
+        assertEquals(5, timer.record(() -> 5));
+        assertThrows(IOException.class, () -> timer.run(() -> {
+            throw new IOException("boom");
+        }));
+
+        assertEquals(2, timer.getCount());
+        assertEquals(1, timer.getErrors());
+    }
+
+    @DisplayName("Проверка текстового снимка метрик")
+    @Test
+    void testScrape() {
+        MetricsRegistry registry = new MetricsRegistry();
+        registry.timer("b.second").record(2_000, false);
+        registry.timer("a.first").record(1_000, true);
+
+        String[] lines = registry.scrape().split("\n");
+        assertEquals(2, lines.length);
+        assertTrue(lines[0].startsWith("a.first count=1 errors=1 error_rate=1.0000 p50_us=1.0"), lines[0]);
+        assertTrue(lines[1].startsWith("b.second count=1 errors=0"), lines[1]);
+
+        registry.reset();
+        assertEquals(0, registry.timer("a.first").getCount());
+    }
+}